@@ -0,0 +1,119 @@
+package com.expense_tracker.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+import com.expense_tracker.util.CsvLayout;
+import com.expense_tracker.util.CsvLineDecoder;
+import com.expense_tracker.util.CsvLineReader;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+/**
+ * Field decoding cost per file: the opencsv / String.split paths the importers used
+ * before, against {@link CsvLineDecoder}. Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvDecodeBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    private byte[] shortLayout;
+    private byte[] fullLayout;
+
+    @Setup
+    public void generate() {
+        Random random = new Random(42);
+        CategoryType[] categories = CategoryType.values();
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        StringBuilder shortCsv = new StringBuilder("\"amount\",\"categoryType\",\"date\"\n");
+        StringBuilder fullCsv = new StringBuilder("Amount,TransactionType,CategoryType,Date\n");
+        for (int i = 0; i < rows; i++) {
+            CategoryType category = categories[random.nextInt(categories.length)];
+            String amount = String.valueOf(random.nextInt(1_000_000) / 100.0);
+            String date = start.plusDays(random.nextInt(2_000)).toString();
+            shortCsv.append('"').append(amount).append("\",\"").append(category.name())
+                    .append("\",\"").append(date).append("\"\n");
+            fullCsv.append(amount).append(',').append(category.getTransactionType().name()).append(',')
+                    .append(category.name()).append(',').append(date).append('\n');
+        }
+        shortLayout = shortCsv.toString().getBytes(StandardCharsets.UTF_8);
+        fullLayout = fullCsv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void shortLayoutOpencsv(Blackhole blackhole) throws IOException, CsvValidationException {
+        try (CSVReader reader = new CSVReader(new InputStreamReader(
+                new ByteArrayInputStream(shortLayout), StandardCharsets.UTF_8))) {
+            reader.readNext();
+            String[] line;
+            while ((line = reader.readNext()) != null) {
+                blackhole.consume(Double.parseDouble(line[0]));
+                blackhole.consume(CategoryType.valueOf(line[1]));
+                blackhole.consume(LocalDate.parse(line[2]));
+            }
+        }
+    }
+
+    @Benchmark
+    public void shortLayoutDecoder(Blackhole blackhole) throws IOException {
+        decode(shortLayout, CsvLayout.SHORT, blackhole);
+    }
+
+    @Benchmark
+    public void fullLayoutSplit(Blackhole blackhole) {
+        String[] lines = new String(fullLayout, StandardCharsets.UTF_8).split("\n");
+        for (int i = 1; i < lines.length; i++) {
+            String[] parts = lines[i].split(",");
+            blackhole.consume(Double.parseDouble(parts[0].trim()));
+            blackhole.consume(TransactionType.valueOf(parts[1].trim().toUpperCase()));
+            blackhole.consume(CategoryType.valueOf(parts[2].trim().toUpperCase()));
+            blackhole.consume(LocalDate.parse(parts[3].trim()));
+        }
+    }
+
+    @Benchmark
+    public void fullLayoutDecoder(Blackhole blackhole) throws IOException {
+        decode(fullLayout, CsvLayout.FULL, blackhole);
+    }
+
+    private static void decode(byte[] csv, CsvLayout layout, Blackhole blackhole) throws IOException {
+        CsvLineDecoder decoder = new CsvLineDecoder(layout);
+        try (CsvLineReader reader = new CsvLineReader(new ByteArrayInputStream(csv))) {
+            reader.next();
+            while (reader.next()) {
+                decoder.decode(reader.line(), reader.from(), reader.to());
+                blackhole.consume(decoder.amount());
+                blackhole.consume(decoder.transactionType());
+                blackhole.consume(decoder.categoryType());
+                blackhole.consume(decoder.date());
+            }
+        }
+    }
+}
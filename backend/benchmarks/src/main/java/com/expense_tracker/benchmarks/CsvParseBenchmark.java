@@ -0,0 +1,76 @@
+package com.expense_tracker.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.expense_tracker.dto.CsvImportResult;
+import com.expense_tracker.util.ParallelCsvParser;
+import com.expense_tracker.util.TransactionFileService;
+
+/**
+ * CSV import parsing without persistence: the streaming upload parser, the parallel
+ * file parser and the legacy opencsv list loader, each feeding a no-op sink.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class CsvParseBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private Path file;
+    private TransactionFileService fileService;
+    private ParallelCsvParser parallelParser;
+
+    @Setup
+    public void setUp() throws IOException {
+        Ledger ledger = new Ledger(rows);
+        file = ledger.writeShortCsv();
+        fileService = new TransactionFileService(ledger.categoryService());
+        parallelParser = new ParallelCsvParser(ledger.categoryService(), 0, 1 << 20);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        parallelParser.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public CsvImportResult streaming(Blackhole blackhole) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return fileService.streamTransactions(input, 1000, blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public CsvImportResult parallel(Blackhole blackhole) throws IOException {
+        return parallelParser.parse(file, 1000, blackhole::consume);
+    }
+
+    @Benchmark
+    public Object opencsvList() throws Exception {
+        return fileService.loadTransactions(file.toString());
+    }
+}
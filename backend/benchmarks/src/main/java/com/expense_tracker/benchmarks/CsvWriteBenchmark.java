@@ -0,0 +1,70 @@
+package com.expense_tracker.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.repository.projection.TransactionRow;
+import com.expense_tracker.util.FileUtil;
+import com.expense_tracker.util.TransactionFileService;
+
+/**
+ * CSV export: the opencsv writer behind /download-style exports and
+ * {@link FileUtil#writeTransactionsToCSV} with its monthly summary footer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class CsvWriteBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private List<TransactionRow> transactionRows;
+    private List<Transaction> transactions;
+    private TransactionFileService fileService;
+    private Path target;
+
+    @Setup
+    public void setUp() throws IOException {
+        Ledger ledger = new Ledger(rows);
+        transactionRows = ledger.rows();
+        transactions = ledger.transactions();
+        fileService = new TransactionFileService(ledger.categoryService());
+        target = Files.createTempFile("export-", ".csv");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(target);
+    }
+
+    @Benchmark
+    public void opencsvRows() throws IOException {
+        fileService.saveTransactions(target.toString(), transactionRows);
+    }
+
+    @Benchmark
+    public void fileUtilWithSummary() throws IOException {
+        FileUtil.writeTransactionsToCSV(target.toString(), transactions);
+    }
+}
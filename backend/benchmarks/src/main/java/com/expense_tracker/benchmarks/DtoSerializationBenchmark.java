@@ -0,0 +1,83 @@
+package com.expense_tracker.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.expense_tracker.dto.TransactionDTO;
+import com.expense_tracker.model.entity.Transaction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Entity-to-DTO mapping and JSON serialization of the transaction list, written the
+ * way the streaming list endpoint writes it: one DTO at a time into a SequenceWriter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class DtoSerializationBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private List<Transaction> transactions;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        transactions = new Ledger(rows).transactions();
+        writer = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerFor(TransactionDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Benchmark
+    public void mapOnly(Blackhole blackhole) {
+        for (Transaction tx : transactions) {
+            blackhole.consume(toDTO(tx));
+        }
+    }
+
+    @Benchmark
+    public void mapAndSerialize() throws IOException {
+        try (SequenceWriter sequence = writer.writeValuesAsArray(OutputStream.nullOutputStream())) {
+            for (Transaction tx : transactions) {
+                sequence.write(toDTO(tx));
+            }
+        }
+    }
+
+    // Mirrors TransactionController.mapToDTO
+    private static TransactionDTO toDTO(Transaction transaction) {
+        TransactionDTO dto = new TransactionDTO();
+        dto.setAmount(transaction.getAmount());
+        dto.setCategory(transaction.getCategory().toString());
+        dto.setCategoryType(transaction.getCategory().getCategoryType().name());
+        dto.setTransactionType(transaction.getTransactionType().name());
+        dto.setDate(transaction.getDate());
+        return dto;
+    }
+}
@@ -0,0 +1,76 @@
+package com.expense_tracker.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * End-to-end CSV import throughput against a running backend. Each run clears the table and
+ * uploads the same synthetic ledger to {@code /api/transactions/upload}. The rows per second
+ * are taken from the server-side elapsed time. Run it once against the app started with
+ * {@code SPRING_PROFILES_ACTIVE=dev} and once with {@code prod} to compare the logging cost.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.expense_tracker.benchmarks.ImportLoadTest [baseUrl] [rows] [runs]
+ * </pre>
+ */
+public final class ImportLoadTest {
+
+    private ImportLoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int rows = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        Path csv = new Ledger(rows).writeShortCsv();
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        ObjectMapper json = new ObjectMapper();
+        URI transactions = URI.create(baseUrl + "/api/transactions");
+
+        double[] rowsPerSecond = new double[runs];
+        for (int run = 0; run < runs; run++) {
+            send(http, HttpRequest.newBuilder(transactions).DELETE().build());
+
+            String boundary = "----import-" + UUID.randomUUID();
+            HttpRequest upload = HttpRequest.newBuilder(URI.create(baseUrl + "/api/transactions/upload"))
+                    .timeout(Duration.ofMinutes(30))
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(HttpRequest.BodyPublishers.concat(
+                            HttpRequest.BodyPublishers.ofString("--" + boundary + "\r\n"
+                                    + "Content-Disposition: form-data; name=\"file\"; filename=\"ledger.csv\"\r\n"
+                                    + "Content-Type: text/csv\r\n\r\n"),
+                            HttpRequest.BodyPublishers.ofFile(csv),
+                            HttpRequest.BodyPublishers.ofString("\r\n--" + boundary + "--\r\n")))
+                    .build();
+            JsonNode result = json.readTree(send(http, upload));
+            long imported = result.path("imported").asLong();
+            long millis = Math.max(1, result.path("elapsedMillis").asLong());
+            rowsPerSecond[run] = imported * 1000.0 / millis;
+            System.out.printf("run %d: imported=%d rejected=%d elapsed=%dms throughput=%.0f rows/s%n",
+                    run + 1, imported, result.path("rejected").asLong(), millis, rowsPerSecond[run]);
+        }
+        Arrays.sort(rowsPerSecond);
+        System.out.printf("rows=%d runs=%d median=%.0f rows/s best=%.0f rows/s%n",
+                rows, runs, rowsPerSecond[runs / 2], rowsPerSecond[runs - 1]);
+    }
+
+    private static String send(HttpClient http, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,157 @@
+package com.expense_tracker.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+import com.expense_tracker.model.entity.Category;
+import com.expense_tracker.model.entity.MonthlySummary;
+import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.repository.projection.TransactionRow;
+import com.expense_tracker.service.CategoryService;
+import com.expense_tracker.util.Money;
+
+/**
+ * Deterministic synthetic ledger shared by the benchmarks. Rows are kept as primitive
+ * columns and only materialized into entities, projections or files on request, so
+ * a 10M-row ledger costs ~130 MB until a benchmark asks for objects.
+ */
+final class Ledger {
+
+    static final LocalDate FIRST_DAY = LocalDate.of(2015, 1, 1);
+    static final int DAYS = 10 * 365;
+
+    private static final CategoryType[] CATEGORY_TYPES = CategoryType.values();
+
+    // Minor units
+    private final long[] amounts;
+    private final byte[] categoryTypes;
+    private final int[] dayOffsets;
+    private final Map<CategoryType, Category> categories = new EnumMap<>(CategoryType.class);
+
+    Ledger(int rows) {
+        Random random = new Random(42);
+        amounts = new long[rows];
+        categoryTypes = new byte[rows];
+        dayOffsets = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            amounts[i] = random.nextInt(10_000_000);
+            categoryTypes[i] = (byte) random.nextInt(CATEGORY_TYPES.length);
+            dayOffsets[i] = random.nextInt(DAYS);
+        }
+        for (CategoryType type : CATEGORY_TYPES) {
+            categories.put(type, new Category(type.name(), type));
+        }
+    }
+
+    int size() {
+        return amounts.length;
+    }
+
+    long[] amounts() {
+        return amounts;
+    }
+
+    /** Resolves categories from memory, standing in for the database-backed service. */
+    CategoryService categoryService() {
+        return new CategoryService() {
+            @Override
+            public Category resolve(String name, CategoryType categoryType) {
+                return categories.get(categoryType);
+            }
+
+            @Override
+            public void evictAll() {
+            }
+
+            @Override
+            public void lockReferenced(Collection<Transaction> transactions) {
+            }
+
+            @Override
+            public int deleteUnused() {
+                return 0;
+            }
+
+            @Override
+            public void lockForCleanup() {
+            }
+        };
+    }
+
+    List<Transaction> transactions() {
+        List<Transaction> transactions = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            CategoryType type = CATEGORY_TYPES[categoryTypes[i]];
+            transactions.add(new Transaction(amounts[i], type.getTransactionType(), categories.get(type),
+                    FIRST_DAY.plusDays(dayOffsets[i])));
+        }
+        return transactions;
+    }
+
+    List<TransactionRow> rows() {
+        List<TransactionRow> rows = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            CategoryType type = CATEGORY_TYPES[categoryTypes[i]];
+            rows.add(new TransactionRow(i + 1, amounts[i], type.getTransactionType(), type,
+                    FIRST_DAY.plusDays(dayOffsets[i])));
+        }
+        return rows;
+    }
+
+    /** The monthly_summary rollup this ledger would produce, ordered by year and month. */
+    List<MonthlySummary> summaries() {
+        Map<String, MonthlySummary> cells = new LinkedHashMap<>();
+        LocalDate month = FIRST_DAY;
+        while (month.isBefore(FIRST_DAY.plusDays(DAYS))) {
+            for (CategoryType type : CATEGORY_TYPES) {
+                cells.put(key(month, type), new MonthlySummary(month.getYear(), month.getMonthValue(), type));
+            }
+            month = month.plusMonths(1);
+        }
+        for (int i = 0; i < size(); i++) {
+            CategoryType type = CATEGORY_TYPES[categoryTypes[i]];
+            MonthlySummary cell = cells.get(key(FIRST_DAY.plusDays(dayOffsets[i]), type));
+            if (type.getTransactionType() == TransactionType.INCOME) {
+                cell.addIncome(amounts[i], 1);
+            } else {
+                cell.addExpense(amounts[i], 1);
+            }
+        }
+        return new ArrayList<>(cells.values());
+    }
+
+    /** Writes the ledger in the amount,categoryType,date layout accepted by the importers. */
+    Path writeShortCsv() throws IOException {
+        Path file = Files.createTempFile("ledger-" + size() + "-", ".csv");
+        file.toFile().deleteOnExit();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("amount,categoryType,date\n");
+            for (int i = 0; i < size(); i++) {
+                writer.write(Money.toString(amounts[i]));
+                writer.write(',');
+                writer.write(CATEGORY_TYPES[categoryTypes[i]].name());
+                writer.write(',');
+                writer.write(FIRST_DAY.plusDays(dayOffsets[i]).toString());
+                writer.write('\n');
+            }
+        }
+        return file;
+    }
+
+    private static String key(LocalDate date, CategoryType type) {
+        return date.getYear() * 12 + date.getMonthValue() + ":" + type.ordinal();
+    }
+}
@@ -0,0 +1,98 @@
+package com.expense_tracker.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load test against a running backend: N concurrent clients, each on its own
+ * virtual thread, alternate between the summary and paged list endpoints for a fixed duration.
+ * Run it once against the app with {@code VIRTUAL_THREADS=false} and once with {@code true}
+ * to compare platform and virtual-thread request handling.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.expense_tracker.benchmarks.LoadTest [baseUrl] [clients] [seconds]
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final List<String> PATHS = List.of(
+            "/api/transactions/summary/all",
+            "/api/transactions?page=0&size=50");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        List<HttpRequest> requests = PATHS.stream()
+                .map(path -> HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60)).build())
+                .toList();
+
+        LongAdder ok = new LongAdder();
+        LongAdder failed = new LongAdder();
+        // Latency histogram in milliseconds; the last bucket collects everything slower
+        AtomicLong[] latencyBuckets = new AtomicLong[60_001];
+        Arrays.setAll(latencyBuckets, i -> new AtomicLong());
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                workers.submit(() -> {
+                    int i = client;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = requests.get(i++ % requests.size());
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                ok.increment();
+                            } else {
+                                failed.increment();
+                            }
+                        } catch (Exception e) {
+                            failed.increment();
+                        }
+                        long millis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+                        latencyBuckets[(int) Math.min(millis, latencyBuckets.length - 1)].incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        long total = ok.sum() + failed.sum();
+        System.out.printf("clients=%d duration=%ds requests=%d ok=%d failed=%d throughput=%.1f req/s%n",
+                clients, seconds, total, ok.sum(), failed.sum(), (double) total / seconds);
+        System.out.printf("latency ms: p50=%d p90=%d p99=%d max=%d%n",
+                percentile(latencyBuckets, total, 0.50), percentile(latencyBuckets, total, 0.90),
+                percentile(latencyBuckets, total, 0.99), percentile(latencyBuckets, total, 1.0));
+    }
+
+    private static long percentile(AtomicLong[] buckets, long total, double quantile) {
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int millis = 0; millis < buckets.length; millis++) {
+            seen += buckets[millis].get();
+            if (seen >= target && seen > 0) {
+                return millis;
+            }
+        }
+        return 0;
+    }
+}
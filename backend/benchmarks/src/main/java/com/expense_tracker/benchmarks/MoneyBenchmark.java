@@ -0,0 +1,94 @@
+package com.expense_tracker.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.expense_tracker.util.Money;
+
+/**
+ * Minor-unit amounts against the {@code double} rupees they replaced: summing and formatting
+ * a whole ledger. Setup also checks correctness. It reports how far the double sum drifts from
+ * the exact one, and fails unless every amount survives a format/parse round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class MoneyBenchmark {
+
+    @Param({"10000000"})
+    public int rows;
+
+    private long[] minor;
+    private double[] major;
+
+    @Setup
+    public void setUp() {
+        minor = new Ledger(rows).amounts();
+        major = new double[minor.length];
+        long exact = 0;
+        double floating = 0;
+        char[] buffer = new char[Money.MAX_FORMATTED_LENGTH];
+        for (int i = 0; i < minor.length; i++) {
+            major[i] = minor[i] / 100.0;
+            exact += minor[i];
+            floating += major[i];
+
+            int length = Money.format(minor[i], buffer, 0);
+            long parsed = Money.parse(new String(buffer, 0, length));
+            if (parsed != minor[i]) {
+                throw new IllegalStateException("Round trip of " + minor[i] + " gave " + parsed);
+            }
+        }
+        System.out.printf(Locale.ROOT, "%nrows=%d exact=%s double=%.6f drift=%.6f%n",
+                rows, Money.toString(exact), floating, floating - Money.toDouble(exact));
+    }
+
+    @Benchmark
+    public double sumDouble() {
+        double sum = 0;
+        for (double amount : major) {
+            sum += amount;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumMinorUnits() {
+        long sum = 0;
+        for (long amount : minor) {
+            sum += amount;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void formatDouble(Blackhole blackhole) {
+        for (double amount : major) {
+            blackhole.consume(String.format("%.2f", amount));
+        }
+    }
+
+    @Benchmark
+    public void formatMinorUnits(Blackhole blackhole) {
+        char[] buffer = new char[Money.MAX_FORMATTED_LENGTH];
+        for (long amount : minor) {
+            blackhole.consume(Money.format(amount, buffer, 0));
+        }
+    }
+}
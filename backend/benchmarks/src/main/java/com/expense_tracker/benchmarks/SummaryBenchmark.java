@@ -0,0 +1,116 @@
+package com.expense_tracker.benchmarks;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expense_tracker.dto.CategoryBreakdownDTO;
+import com.expense_tracker.dto.MonthlySummaryDTO;
+import com.expense_tracker.model.entity.MonthlySummary;
+import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.service.MonthlySummaryService;
+import com.expense_tracker.service.impl.DefaultTransactionService;
+
+/**
+ * Summary endpoints as served by {@link DefaultTransactionService}: aggregation and
+ * formatting over the monthly_summary rollup. The rollup has one row per month and category
+ * (ten years, about 720 rows) whatever the ledger size, so there is no row-count parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+public class SummaryBenchmark {
+
+    private static final int LEDGER_ROWS = 100_000;
+
+    private DefaultTransactionService service;
+
+    @Setup
+    public void setUp() {
+        List<MonthlySummary> summaries = new Ledger(LEDGER_ROWS).summaries();
+        service = TransactionServices.readingSummariesFrom(new InMemorySummaries(summaries));
+    }
+
+    @Benchmark
+    public Map<String, Double> monthlyNet() {
+        return service.getMonthlySummary();
+    }
+
+    @Benchmark
+    public String singleMonth() {
+        return service.getMonthlySummary(2020, 6);
+    }
+
+    @Benchmark
+    public String allMonths() {
+        return service.getAllMonthsSummary();
+    }
+
+    @Benchmark
+    public List<MonthlySummaryDTO> allMonthRecords() {
+        return service.getMonthSummaries();
+    }
+
+    @Benchmark
+    public List<CategoryBreakdownDTO> categoryBreakdown() {
+        return service.getCategoryBreakdown(null, null);
+    }
+
+    /** Serves a precomputed rollup in place of the database-backed service. */
+    private record InMemorySummaries(List<MonthlySummary> summaries) implements MonthlySummaryService {
+
+        @Override
+        public void record(Transaction transaction) {
+        }
+
+        @Override
+        public void record(Collection<Transaction> transactions) {
+        }
+
+        @Override
+        public List<MonthlySummary> getSummaries() {
+            return summaries;
+        }
+
+        @Override
+        public List<MonthlySummary> getSummaries(int year, int month) {
+            return summaries.stream().filter(s -> s.getYear() == year && s.getMonth() == month).toList();
+        }
+
+        @Override
+        public List<MonthlySummary> getSummaries(YearMonth from, YearMonth to) {
+            return summaries.stream().filter(s -> {
+                YearMonth month = YearMonth.of(s.getYear(), s.getMonth());
+                return !month.isBefore(from) && !month.isAfter(to);
+            }).toList();
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public void rebuild() {
+        }
+
+        @Override
+        public void recompute(YearMonth from, YearMonth to) {
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.expense_tracker.benchmarks;
+
+import java.util.Optional;
+
+import org.springframework.cache.support.NoOpCacheManager;
+
+import com.expense_tracker.repository.TransactionRepository;
+import com.expense_tracker.service.CategoryService;
+import com.expense_tracker.service.MonthlySummaryService;
+import com.expense_tracker.service.impl.DefaultTransactionService;
+import com.expense_tracker.service.impl.SummaryVersionTracker;
+import com.expense_tracker.service.impl.TransactionBatchWriter;
+import com.expense_tracker.service.impl.VersionedSummaryCache;
+import com.expense_tracker.util.ParallelCsvParser;
+import com.expense_tracker.util.TransactionFileService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+
+/**
+ * Builds {@link DefaultTransactionService} instances for benchmarks, wiring only the
+ * collaborators a benchmark exercises so constructor changes are absorbed in one place.
+ */
+final class TransactionServices {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private TransactionServices() {
+    }
+
+    /**
+     * A service whose summary reads go to {@code summaries}, uncached so every call measures the
+     * computation; persistence paths are left unwired.
+     */
+    static DefaultTransactionService readingSummariesFrom(MonthlySummaryService summaries) {
+        TransactionRepository transactionRepository = null;
+        TransactionFileService fileService = null;
+        ParallelCsvParser parallelCsvParser = null;
+        CategoryService categoryService = null;
+        TransactionBatchWriter batchWriter = null;
+        EntityManager entityManager = null;
+        ObjectMapper objectMapper = null;
+        Validator validator = null;
+        return new DefaultTransactionService(transactionRepository, fileService, parallelCsvParser, summaries,
+                categoryService, batchWriter, entityManager, Optional.empty(),
+                new VersionedSummaryCache(new NoOpCacheManager(), new SummaryVersionTracker()),
+                objectMapper, validator, new SimpleMeterRegistry(), CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,24 @@
+package com.expense_tracker.config;
+
+import java.time.YearMonth;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Summary caches, backed by Caffeine (see {@code spring.cache.*}). Entries are evicted by
+ * {@link com.expense_tracker.service.impl.SummaryCacheInvalidator} once a write commits.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Text summaries are keyed by YearMonth, JSON records by recordKey(YearMonth)
+    public static final String MONTH_SUMMARY = "monthSummary";
+    // Views over every month; any change to any month evicts them
+    public static final String ALL_MONTHS_SUMMARY = "allMonthsSummary";
+
+    public static String recordKey(YearMonth month) {
+        return "record:" + month;
+    }
+}
@@ -0,0 +1,135 @@
+package com.expense_tracker.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Caps the number of connections checked out at once. With virtual threads thousands of requests
+ * can reach the pool together; they wait here on a fair semaphore, which parks a virtual thread
+ * cheaply, instead of all queueing inside the pool. A permit is returned when the connection closes.
+ * <p>
+ * Only a thread's first connection takes a permit. A nested one, such as a REQUIRES_NEW
+ * transaction opened while the outer one is still running, goes straight to the pool, so the
+ * permits should be fewer than the pool's connections to leave room for them.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    // Connections checked out through this data source and not yet closed, per thread
+    private static final ThreadLocal<AtomicInteger> HELD = ThreadLocal.withInitial(AtomicInteger::new);
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConnections, long timeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return limited(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return limited(() -> super.getConnection(username, password));
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private Connection limited(ConnectionSource source) throws SQLException {
+        AtomicInteger held = HELD.get();
+        boolean permit = held.get() == 0;
+        if (permit) {
+            acquire();
+        }
+        try {
+            Connection connection = source.open();
+            held.incrementAndGet();
+            return releasing(connection, held, permit);
+        } catch (SQLException | RuntimeException e) {
+            if (permit) {
+                permits.release();
+            }
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No database connection available within " + timeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection releasing(Connection connection, AtomicInteger held, boolean permit) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "Limited " + connection;
+                        case "close":
+                            if (released.compareAndSet(false, true)) {
+                                try {
+                                    connection.close();
+                                } finally {
+                                    held.decrementAndGet();
+                                    if (permit) {
+                                        permits.release();
+                                    }
+                                }
+                            }
+                            return null;
+                        case "unwrap":
+                            if (((Class<?>) args[0]).isInstance(proxy)) {
+                                return proxy;
+                            }
+                            if (((Class<?>) args[0]).isInstance(connection)) {
+                                return connection;
+                            }
+                            break;
+                        case "isWrapperFor":
+                            if (((Class<?>) args[0]).isInstance(proxy) || ((Class<?>) args[0]).isInstance(connection)) {
+                                return true;
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection open() throws SQLException;
+    }
+}
@@ -0,0 +1,27 @@
+package com.expense_tracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImportExecutorConfig {
+
+    // Bounded on both threads and queue so a burst of uploads is rejected instead of piling up.
+    // In virtual-thread mode the workers are virtual threads but the same bounds apply.
+    @Bean
+    public TaskExecutor importExecutor(@Value("${app.import.jobs.threads:2}") int threads,
+                                       @Value("${app.import.jobs.queue-capacity:10}") int queueCapacity,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("csv-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,41 @@
+package com.expense_tracker.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Instrumentation beyond what Actuator configures on its own. Actuator already times every
+ * endpoint as {@code http.server.requests} and exposes Hibernate statistics as
+ * {@code hibernate.*}. This adds {@code @Timed} support for services and the per-request
+ * statement count.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestQueryCounterCustomizer(RequestQueryCounter requestQueryCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, requestQueryCounter);
+    }
+
+    @Bean
+    public WebMvcConfigurer requestQueryCounterInterceptor(RequestQueryCounter requestQueryCounter) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(requestQueryCounter).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.expense_tracker.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the SQL statements Hibernate prepares while a request is handled and records them per
+ * endpoint as {@code hibernate.request.queries}. Counting is per thread: statements run by
+ * import jobs or while a streamed response is written are not attributed to the request.
+ */
+@Component
+public class RequestQueryCounter implements StatementInspector, AsyncHandlerInterceptor {
+
+    private static final String METRIC = "hibernate.request.queries";
+
+    private final ThreadLocal<long[]> statements = new ThreadLocal<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestQueryCounter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = statements.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statements.set(new long[1]);
+        return true;
+    }
+
+    // The request thread goes back to the pool while the async part runs
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        statements.remove();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        long[] count = statements.get();
+        statements.remove();
+        if (count == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC)
+                .description("SQL statements prepared per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(count[0]);
+    }
+}
@@ -0,0 +1,35 @@
+package com.expense_tracker.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Logback filter that passes at most {@code maxPerSecond} events per wall-clock second and
+ * drops the rest, so a burst of slow statements samples into the log instead of flooding it.
+ * Configured from logback-spring.xml.
+ */
+public class SamplingLogFilter extends Filter<ILoggingEvent> {
+
+    private int maxPerSecond = 10;
+    private long currentSecond;
+    private int passed;
+
+    @Override
+    public synchronized FilterReply decide(ILoggingEvent event) {
+        long second = event.getTimeStamp() / 1000;
+        if (second != currentSecond) {
+            currentSecond = second;
+            passed = 0;
+        }
+        if (passed < maxPerSecond) {
+            passed++;
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+}
@@ -0,0 +1,34 @@
+package com.expense_tracker.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.expense_tracker.service.MonthlySummaryService;
+
+/**
+ * Rebuilds the monthly_summary rollup from the transactions table when the
+ * application is started with {@code --rebuild-summaries}, e.g. after the
+ * rollup is first deployed against an existing ledger.
+ */
+@Component
+public class SummaryRebuildRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SummaryRebuildRunner.class);
+
+    private final MonthlySummaryService summaryService;
+
+    public SummaryRebuildRunner(MonthlySummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("rebuild-summaries")) {
+            log.info("Rebuilding monthly summaries from transactions");
+            summaryService.rebuild();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.expense_tracker.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Active with {@code spring.threads.virtual.enabled=true}. Boot then serves requests and runs the
+ * MVC async executor (streamed downloads) on virtual threads; here the Hikari pool is fronted by a
+ * {@link ConnectionLimitingDataSource}, so request concurrency is no longer bounded by threads but
+ * database concurrency stays bounded by connections. The semaphore is kept below the pool size so
+ * nested connections (REQUIRES_NEW) still find one free when every permit is in use.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Pool connections not covered by a permit
+    private static final int NESTED_CONNECTION_RESERVE = 2;
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConnectionLimitingDataSource(hikari,
+                            Math.max(1, hikari.getMaximumPoolSize() - NESTED_CONNECTION_RESERVE),
+                            hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
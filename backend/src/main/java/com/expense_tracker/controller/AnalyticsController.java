@@ -0,0 +1,69 @@
+package com.expense_tracker.controller;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.expense_tracker.dto.AnalyticsBucket;
+import com.expense_tracker.dto.AnalyticsQuery;
+import com.expense_tracker.model.AnalyticsGrouping;
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+import com.expense_tracker.service.AnalyticsService;
+
+/**
+ * Ad-hoc aggregations served from the in-memory column store; only registered when
+ * {@code app.analytics.columnar.enabled=true}.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@ConditionalOnProperty(name = "app.analytics.columnar.enabled", havingValue = "true")
+public class AnalyticsController {
+
+    private static final int MAX_WINDOW_DAYS = 3_660;
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    // e.g. /api/analytics?groupBy=DAY&from=2024-01-01&category=FOOD&category=TRAVEL&window=7
+    @GetMapping
+    public List<AnalyticsBucket> aggregate(
+            @RequestParam(defaultValue = "MONTH") AnalyticsGrouping groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "category", required = false) List<CategoryType> categories,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(defaultValue = "0") int window) {
+        if (window < 0 || window > MAX_WINDOW_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "window must be between 0 and " + MAX_WINDOW_DAYS);
+        }
+        Set<CategoryType> categorySet = categories == null || categories.isEmpty()
+                ? Set.of()
+                : EnumSet.copyOf(categories);
+        try {
+            return analyticsService.aggregate(new AnalyticsQuery(groupBy, from, to, categorySet, type, window));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PostMapping("/reload")
+    public long reload() {
+        analyticsService.reload();
+        return analyticsService.size();
+    }
+}
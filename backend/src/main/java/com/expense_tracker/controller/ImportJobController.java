@@ -0,0 +1,52 @@
+package com.expense_tracker.controller;
+
+import java.net.URI;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.expense_tracker.dto.ImportJobDTO;
+import com.expense_tracker.service.ImportJobService;
+
+/**
+ * Background CSV imports: the upload returns straight away with a job id that can be polled or cancelled.
+ */
+@RestController
+@RequestMapping("/api/transactions/imports")
+public class ImportJobController {
+
+    private final ImportJobService importJobService;
+
+    public ImportJobController(ImportJobService importJobService) {
+        this.importJobService = importJobService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ImportJobDTO> submit(@RequestParam("file") MultipartFile file) {
+        ImportJobDTO job = importJobService.submit(file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/transactions/imports/" + job.id()))
+                .body(job);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobDTO> getJob(@PathVariable UUID id) {
+        return ResponseEntity.of(importJobService.getJob(id));
+    }
+
+    // Stops after the chunk in progress; chunks already committed stay imported. 409 once the job has finished.
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ImportJobDTO> cancel(@PathVariable UUID id) {
+        return importJobService.cancel(id)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,11 +1,22 @@
 package com.expense_tracker.controller;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -15,20 +26,35 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.expense_tracker.dto.BatchIngestResult;
+import com.expense_tracker.dto.CategoryBreakdownDTO;
+import com.expense_tracker.dto.CsvImportResult;
+import com.expense_tracker.dto.CursorPage;
+import com.expense_tracker.dto.MonthlySummaryDTO;
+import com.expense_tracker.dto.SummaryVersion;
 import com.expense_tracker.dto.TransactionDTO;
+import com.expense_tracker.dto.TransactionFilter;
 import com.expense_tracker.model.CategoryType;
 import com.expense_tracker.model.TransactionType;
 import com.expense_tracker.model.entity.Category;
 import com.expense_tracker.model.entity.Transaction;
-import com.expense_tracker.repository.TransactionRepository;
+import com.expense_tracker.service.CategoryService;
 import com.expense_tracker.service.TransactionService;
+import com.expense_tracker.util.Money;
+import com.expense_tracker.util.TransactionCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.opencsv.CSVWriter;
 
 import jakarta.validation.Valid;
@@ -37,13 +63,21 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/transactions")
 public class TransactionController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+    private static final int DOWNLOAD_FLUSH_ROWS = 5_000;
+
     private final TransactionService transactionService;
-    private final TransactionRepository transactionRepository;
+    private final CategoryService categoryService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public TransactionController(TransactionService transactionService, TransactionRepository transactionRepository) {
+    public TransactionController(TransactionService transactionService, CategoryService categoryService,
+                                 ObjectMapper objectMapper) {
         this.transactionService = transactionService;
-        this.transactionRepository = transactionRepository;
+        this.categoryService = categoryService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -52,20 +86,98 @@ public class TransactionController {
         transactionService.addTransaction(transaction);
     }
 
+    // Bulk variant of POST /api/transactions for a JSON array or an NDJSON stream. Elements are
+    // read one at a time and validated individually. Invalid ones are reported by index, and the
+    // rest are written in chunks, each chunk in one database transaction.
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE})
+    public BatchIngestResult addTransactions(InputStream body) throws IOException {
+        return transactionService.addTransactions(body);
+    }
+
+    // Optional filters, e.g. &from=2024-01-01&to=2024-01-31&category=FOOD&category=TRAVEL&minAmount=100
+    @GetMapping(params = {"page", "size"})
+    public Page<TransactionDTO> getTransactionsPage(
+            @RequestParam("page") int page,
+            @RequestParam("size") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "category", required = false) List<CategoryType> categories,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) String minAmount,
+            @RequestParam(required = false) String maxAmount) {
+        TransactionFilter filter = filterOf(from, to, categories, type, minAmount, maxAmount);
+        Page<Transaction> paged = transactionService.getTransactionsPage(filter, PageRequest.of(page, size));
+        return paged.map(this::mapToDTO);
+    }
+
+    // Unpaged reads are streamed row by row, as a JSON array or as NDJSON when the client accepts it.
+    // They take the same optional filters as the paged listing.
     @GetMapping
-    public Object getAllTransactions(@RequestParam(value = "page", required = false) Integer page,
-                                     @RequestParam(value = "size", required = false) Integer size) {
-        if (page != null && size != null) {
-            Page<Transaction> paged = transactionService.getTransactionsPage(PageRequest.of(page, size));
-            return paged.map(this::mapToDTO);
-        } else {
-            List<Transaction> transactions = transactionService.getAllTransactions();
-            return transactions.stream().map(this::mapToDTO).toList();
+    public ResponseEntity<StreamingResponseBody> getAllTransactions(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "category", required = false) List<CategoryType> categories,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) String minAmount,
+            @RequestParam(required = false) String maxAmount) {
+        // Validated here: once streaming starts the status can no longer change
+        TransactionFilter filter = filterOf(from, to, categories, type, minAmount, maxAmount);
+        boolean ndjson = accept != null && accept.contains(NDJSON_VALUE);
+        ObjectWriter writer = objectMapper.writerFor(TransactionDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody stream = out -> {
+            try (SequenceWriter sequence = ndjson
+                    ? writer.withRootValueSeparator("\n").writeValues(out)
+                    : writer.writeValuesAsArray(out)) {
+                transactionService.forEachTransaction(filter, tx -> {
+                    try {
+                        sequence.write(mapToDTO(tx));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.parseMediaType(NDJSON_VALUE) : MediaType.APPLICATION_JSON)
+                .body(stream);
+    }
+
+    @GetMapping("/cursor")
+    public CursorPage<TransactionDTO> getTransactionsByCursor(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "50") int size,
+            @RequestParam(value = "count", defaultValue = "false") boolean count) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        TransactionCursor cursor;
+        try {
+            cursor = after == null ? null : TransactionCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
+
+        // Fetch one extra row to learn whether another page exists without counting
+        List<Transaction> rows = transactionService.getTransactionsAfter(cursor, size + 1);
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Transaction last = rows.get(size - 1);
+            next = new TransactionCursor(last.getDate(), last.getId()).encode();
+        }
+        Long total = count ? transactionService.countTransactions() : null;
+        return new CursorPage<>(rows.stream().map(this::mapToDTO).toList(), next, total);
     }
 
     @GetMapping("/summary/{year}/{month}")
     public String getMonthlySummary(@PathVariable int year, @PathVariable int month) {
+        if (month < 1 || month > 12) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "month must be between 1 and 12");
+        }
         return transactionService.getMonthlySummary(year, month);
     }
 
@@ -74,11 +186,64 @@ public class TransactionController {
         return transactionService.getAllMonthsSummary();
     }
 
+    // JSON summaries in minor units; If-None-Match/If-Modified-Since are answered with 304
+    // from the summary version alone, without reading any totals
+    @GetMapping("/summaries")
+    public ResponseEntity<List<MonthlySummaryDTO>> getMonthSummaries(WebRequest request) {
+        SummaryVersion version = transactionService.getSummaryVersion();
+        if (request.checkNotModified(version.etag(), version.lastModified().toEpochMilli())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(transactionService.getMonthSummaries());
+    }
+
+    @GetMapping("/summaries/{year}/{month}")
+    public ResponseEntity<MonthlySummaryDTO> getMonthSummary(@PathVariable int year, @PathVariable int month,
+                                                            WebRequest request) {
+        if (month < 1 || month > 12) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "month must be between 1 and 12");
+        }
+        SummaryVersion version = transactionService.getSummaryVersion();
+        if (request.checkNotModified(version.etag(), version.lastModified().toEpochMilli())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+                .body(transactionService.getMonthSummary(year, month));
+    }
+
+    // Totals per (month, category) with month-over-month and year-over-year deltas,
+    // e.g. /summaries/breakdown?from=2024-01&to=2024-12
+    @GetMapping("/summaries/breakdown")
+    public ResponseEntity<List<CategoryBreakdownDTO>> getCategoryBreakdown(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            WebRequest request) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        SummaryVersion version = transactionService.getSummaryVersion();
+        if (request.checkNotModified(version.etag(), version.lastModified().toEpochMilli())) {
+            return null;
+        }
+        try {
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+                    .body(transactionService.getCategoryBreakdown(from, to));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<Void> rebuildSummaries() {
+        transactionService.rebuildSummaries();
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping("/upload")
-public ResponseEntity<String> uploadTransactions(@RequestParam("file") MultipartFile file) {
+public ResponseEntity<?> uploadTransactions(@RequestParam("file") MultipartFile file) {
     try {
-        transactionService.loadTransactionsFromCSV(file);
-        return ResponseEntity.ok("Transactions uploaded successfully.");
+        CsvImportResult result = transactionService.loadTransactionsFromCSV(file);
+        return ResponseEntity.ok(result);
     } catch (Exception e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body("Failed to upload transactions: " + e.getMessage());
@@ -89,14 +254,24 @@ public ResponseEntity<String> uploadTransactions(@RequestParam("file") Multipart
     @GetMapping("/download")
     public ResponseEntity<StreamingResponseBody> downloadTransactions() {
         StreamingResponseBody stream = out -> {
-            try (CSVWriter writer = new CSVWriter(new OutputStreamWriter(out))) {
+            try (CSVWriter writer = new CSVWriter(new BufferedWriter(
+                    new OutputStreamWriter(out, StandardCharsets.UTF_8), DOWNLOAD_BUFFER_SIZE))) {
                 writer.writeNext(new String[]{"amount", "categoryType", "date"});
-                transactionRepository.findAll().forEach(tx -> {
+                writer.flush(); // send the header before the cursor returns its first rows
+                long[] written = {0};
+                transactionService.forEachTransactionRow(tx -> {
                     writer.writeNext(new String[]{
-                        String.valueOf(tx.getAmount()),
-                        tx.getCategory().getCategoryType().name(),
-                        tx.getDate().toString()
+                        Money.toString(tx.amount()),
+                        tx.categoryType().name(),
+                        tx.date().toString()
                     });
+                    if (++written[0] % DOWNLOAD_FLUSH_ROWS == 0) {
+                        try {
+                            writer.flush();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
                 });
             }
         };
@@ -107,20 +282,63 @@ public ResponseEntity<String> uploadTransactions(@RequestParam("file") Multipart
     }
 
 
-    @DeleteMapping
+    // Only a request with neither bound clears the table
+    @DeleteMapping(params = {"!from", "!to"})
     public ResponseEntity<Void> clearAllTransactions() {
         transactionService.clearAllTransactions();
         return ResponseEntity.ok().build();
     }
 
+    // Prunes a date range (inclusive) and returns the number of rows deleted
+    @DeleteMapping
+    public int deleteTransactionsBetween(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from == null || to == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from and to must be given together");
+        }
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        return transactionService.deleteTransactionsBetween(from, to);
+    }
+
     // ----------------------------- Mapping Helpers -----------------------------
 
+    private TransactionFilter filterOf(LocalDate from, LocalDate to, List<CategoryType> categories,
+                                       TransactionType type, String minAmount, String maxAmount) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        Long min = parseAmount("minAmount", minAmount);
+        Long max = parseAmount("maxAmount", maxAmount);
+        if (min != null && max != null && min > max) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minAmount must not be greater than maxAmount");
+        }
+        Set<CategoryType> categorySet = categories == null || categories.isEmpty()
+                ? Set.of()
+                : EnumSet.copyOf(categories);
+        return new TransactionFilter(from, to, categorySet, type, min, max);
+    }
+
+    // Amounts in query strings are decimal rupees, like the JSON body
+    private static Long parseAmount(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Money.parse(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid " + name + ": " + value);
+        }
+    }
+
     private Transaction mapToTransaction(TransactionDTO dto) {
         try {
             CategoryType categoryType = CategoryType.valueOf(dto.getCategoryType().toUpperCase());
             TransactionType type = categoryType.getTransactionType(); 
     
-            Category category = new Category(dto.getCategory(), categoryType);
+            Category category = categoryService.resolve(dto.getCategory(), categoryType);
             return new Transaction(dto.getAmount(), type, category, dto.getDate());
     
         } catch (IllegalArgumentException e) {
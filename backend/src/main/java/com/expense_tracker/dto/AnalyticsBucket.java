@@ -0,0 +1,9 @@
+package com.expense_tracker.dto;
+
+// Amounts are in minor units
+public record AnalyticsBucket(String key,
+                              long income,
+                              long expense,
+                              long net,
+                              long count) {
+}
@@ -0,0 +1,26 @@
+package com.expense_tracker.dto;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import com.expense_tracker.model.AnalyticsGrouping;
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+
+/**
+ * Group-by query over all transactions. {@code from}/{@code to} are inclusive and may be null
+ * for an open range; empty {@code categories} and a null {@code transactionType} match everything.
+ * A positive {@code windowDays} (DAY grouping only) turns each day into the trailing sum over
+ * that many days.
+ */
+public record AnalyticsQuery(AnalyticsGrouping groupBy,
+                             LocalDate from,
+                             LocalDate to,
+                             Set<CategoryType> categories,
+                             TransactionType transactionType,
+                             int windowDays) {
+
+    public static AnalyticsQuery byMonth(LocalDate from, LocalDate to) {
+        return new AnalyticsQuery(AnalyticsGrouping.MONTH, from, to, Set.of(), null, 0);
+    }
+}
@@ -0,0 +1,12 @@
+package com.expense_tracker.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch ingest: rows persisted, elements rejected and wall-clock time taken.
+ * {@code errors} lists the first rejected elements.
+ */
+public record BatchIngestResult(long accepted, long rejected, long elapsedMillis, List<BatchItemError> errors) {
+
+    public static final int MAX_REPORTED_ERRORS = 100;
+}
@@ -0,0 +1,10 @@
+package com.expense_tracker.dto;
+
+import java.util.Map;
+
+/**
+ * A rejected element of a batch request, identified by its 0-based position in the array or
+ * NDJSON stream, with one message per offending field.
+ */
+public record BatchItemError(long index, Map<String, String> errors) {
+}
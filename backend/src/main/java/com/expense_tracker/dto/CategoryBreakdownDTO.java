@@ -0,0 +1,22 @@
+package com.expense_tracker.dto;
+
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+
+/**
+ * Total for one (month, category) cell with the same cell one month and one year earlier.
+ * Amounts are in minor units of {@code currency}. Without a lower bound, the comparison fields
+ * are null where the earlier month lies before the first recorded month.
+ */
+public record CategoryBreakdownDTO(int year,
+                                   int month,
+                                   CategoryType categoryType,
+                                   TransactionType transactionType,
+                                   String currency,
+                                   long total,
+                                   long transactions,
+                                   Long previousMonthTotal,
+                                   Long monthOverMonth,
+                                   Long previousYearTotal,
+                                   Long yearOverYear) {
+}
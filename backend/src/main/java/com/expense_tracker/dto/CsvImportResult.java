@@ -0,0 +1,12 @@
+package com.expense_tracker.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV import: rows persisted, rows skipped as unparseable and wall-clock time taken.
+ * {@code errors} lists the first rejected rows with their original line numbers.
+ */
+public record CsvImportResult(long imported, long rejected, long elapsedMillis, List<CsvRowError> errors) {
+
+    public static final int MAX_REPORTED_ERRORS = 100;
+}
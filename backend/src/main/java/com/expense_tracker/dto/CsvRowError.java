@@ -0,0 +1,7 @@
+package com.expense_tracker.dto;
+
+/**
+ * A rejected CSV row, identified by its 1-based line number in the original file.
+ */
+public record CsvRowError(long line, String message) {
+}
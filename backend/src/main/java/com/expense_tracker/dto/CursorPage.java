@@ -0,0 +1,11 @@
+package com.expense_tracker.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code next} is an opaque cursor for the
+ * following page, or {@code null} on the last page; {@code totalElements} is only
+ * populated when the caller asked for a count.
+ */
+public record CursorPage<T>(List<T> content, String next, Long totalElements) {
+}
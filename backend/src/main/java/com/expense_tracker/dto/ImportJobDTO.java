@@ -0,0 +1,23 @@
+package com.expense_tracker.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.expense_tracker.model.ImportJobStatus;
+
+/**
+ * Point-in-time view of a background CSV import, as returned by the import job endpoints.
+ */
+public record ImportJobDTO(UUID id,
+                           String fileName,
+                           ImportJobStatus status,
+                           long rowsImported,
+                           long rowsRejected,
+                           double rowsPerSecond,
+                           List<CsvRowError> errors,
+                           String message,
+                           Instant submittedAt,
+                           Instant startedAt,
+                           Instant finishedAt) {
+}
@@ -0,0 +1,14 @@
+package com.expense_tracker.dto;
+
+/**
+ * Totals for one month. Amounts are in minor units of {@code currency} (paise for INR),
+ * so clients format them without parsing or floating-point rounding.
+ */
+public record MonthlySummaryDTO(int year,
+                                int month,
+                                String currency,
+                                long income,
+                                long expense,
+                                long net,
+                                long transactions) {
+}
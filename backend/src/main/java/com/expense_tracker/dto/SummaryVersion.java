@@ -0,0 +1,10 @@
+package com.expense_tracker.dto;
+
+import java.time.Instant;
+
+/**
+ * Validators for the summary responses: the ETag changes and Last-Modified advances whenever
+ * a committed write changes any summary.
+ */
+public record SummaryVersion(String etag, Instant lastModified) {
+}
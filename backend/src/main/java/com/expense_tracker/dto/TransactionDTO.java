@@ -2,14 +2,21 @@ package com.expense_tracker.dto;
 
 import java.time.LocalDate;
 
+import com.expense_tracker.util.MoneyJson;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 public class TransactionDTO {
 
+    // Minor units; read and written as a decimal in major units
     @Min(value = 0, message = "Amount must be positive")
-    private double amount;
+    @JsonSerialize(using = MoneyJson.Serializer.class)
+    @JsonDeserialize(using = MoneyJson.Deserializer.class)
+    private long amount;
 
     @NotBlank(message = "Category is required")
     private String category;
@@ -23,11 +30,11 @@ public class TransactionDTO {
     @NotNull(message = "Date is required")
     private LocalDate date;
 
-    public double getAmount() {
+    public long getAmount() {
         return amount;
     }
 
-    public void setAmount(double amount) {
+    public void setAmount(long amount) {
         this.amount = amount;
     }
 
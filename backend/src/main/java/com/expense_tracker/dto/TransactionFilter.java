@@ -0,0 +1,27 @@
+package com.expense_tracker.dto;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+
+/**
+ * Optional restrictions on a transaction listing. Dates and amounts (minor units) are inclusive
+ * bounds and may be null for an open range; empty {@code categories} and a null
+ * {@code transactionType} match everything.
+ */
+public record TransactionFilter(LocalDate from,
+                                LocalDate to,
+                                Set<CategoryType> categories,
+                                TransactionType transactionType,
+                                Long minAmount,
+                                Long maxAmount) {
+
+    public static final TransactionFilter NONE = new TransactionFilter(null, null, Set.of(), null, null, null);
+
+    public boolean isEmpty() {
+        return from == null && to == null && categories.isEmpty() && transactionType == null
+                && minAmount == null && maxAmount == null;
+    }
+}
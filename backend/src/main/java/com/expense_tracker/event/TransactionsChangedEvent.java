@@ -0,0 +1,39 @@
+package com.expense_tracker.event;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import com.expense_tracker.repository.projection.TransactionRow;
+
+/**
+ * Published inside the writing transaction whenever the monthly rollup changes. {@code months}
+ * lists the months touched and {@code added} the rows inserted. {@code allMonths} is set when
+ * every month may have changed (clear, rebuild), in which case {@code months} is empty;
+ * {@code rowsRemoved} is set when transactions were deleted rather than only added.
+ */
+public record TransactionsChangedEvent(Set<YearMonth> months, List<TransactionRow> added,
+                                       boolean allMonths, boolean rowsRemoved) {
+
+    public static TransactionsChangedEvent added(Set<YearMonth> months, List<TransactionRow> added) {
+        return new TransactionsChangedEvent(Set.copyOf(months), List.copyOf(added), false, false);
+    }
+
+    public static TransactionsChangedEvent removed(Set<YearMonth> months) {
+        return new TransactionsChangedEvent(Set.copyOf(months), List.of(), false, true);
+    }
+
+    public static TransactionsChangedEvent cleared() {
+        return new TransactionsChangedEvent(Set.of(), List.of(), true, true);
+    }
+
+    // Rollup or column store recomputed from unchanged transactions; every cached total is stale
+    public static TransactionsChangedEvent rebuilt() {
+        return new TransactionsChangedEvent(Set.of(), List.of(), true, false);
+    }
+
+    // Totals of these months recomputed from unchanged transactions
+    public static TransactionsChangedEvent recomputed(Set<YearMonth> months) {
+        return new TransactionsChangedEvent(Set.copyOf(months), List.of(), false, false);
+    }
+}
@@ -0,0 +1,10 @@
+package com.expense_tracker.model;
+
+public enum AnalyticsGrouping {
+    NONE,
+    DAY,
+    WEEK,
+    MONTH,
+    CATEGORY,
+    TRANSACTION_TYPE
+}
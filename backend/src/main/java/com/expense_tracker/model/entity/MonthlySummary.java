@@ -0,0 +1,104 @@
+package com.expense_tracker.model.entity;
+
+import com.expense_tracker.model.CategoryType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Running income/expense totals for one (year, month, category type) cell.
+ * Kept in step with the transactions table so summaries never scan the ledger.
+ */
+@Entity
+@Table(name = "monthly_summary", uniqueConstraints = @UniqueConstraint(
+        name = "uk_monthly_summary_period_category",
+        columnNames = {"summary_year", "summary_month", "category_type"}))
+public class MonthlySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "monthly_summary_seq")
+    @SequenceGenerator(name = "monthly_summary_seq", sequenceName = "monthly_summary_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "summary_year", nullable = false)
+    private int year;
+
+    @Column(name = "summary_month", nullable = false)
+    private int month;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category_type", nullable = false)
+    private CategoryType categoryType;
+
+    // Totals are in minor units (paise)
+    @Column(name = "income_total_minor", nullable = false)
+    private long incomeTotal;
+
+    @Column(name = "expense_total_minor", nullable = false)
+    private long expenseTotal;
+
+    @Column(nullable = false)
+    private long incomeCount;
+
+    @Column(nullable = false)
+    private long expenseCount;
+
+    protected MonthlySummary() {
+    }
+
+    public MonthlySummary(int year, int month, CategoryType categoryType) {
+        this.year = year;
+        this.month = month;
+        this.categoryType = categoryType;
+    }
+
+    public void addIncome(long amount, long count) {
+        this.incomeTotal += amount;
+        this.incomeCount += count;
+    }
+
+    public void addExpense(long amount, long count) {
+        this.expenseTotal += amount;
+        this.expenseCount += count;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public CategoryType getCategoryType() {
+        return categoryType;
+    }
+
+    public long getIncomeTotal() {
+        return incomeTotal;
+    }
+
+    public long getExpenseTotal() {
+        return expenseTotal;
+    }
+
+    public long getIncomeCount() {
+        return incomeCount;
+    }
+
+    public long getExpenseCount() {
+        return expenseCount;
+    }
+}
@@ -3,8 +3,8 @@ package com.expense_tracker.model.entity;
 import java.time.LocalDate;
 
 import com.expense_tracker.model.TransactionType;
+import com.expense_tracker.util.Money;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,26 +13,35 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_date_id", columnList = "date, id"),
+        @Index(name = "idx_transactions_category_date", columnList = "category_id, date")
+})
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
-    private double amount;
+    // Minor units (paise)
+    @Column(name = "amount_minor", nullable = false)
+    private long amount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private TransactionType transactionType;
 
-    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    // Categories are shared rows resolved through CategoryService, never persisted from here
+    @ManyToOne(fetch = FetchType.LAZY)
 @JoinColumn(name = "category_id", nullable = false)
 private Category category;
 
@@ -42,7 +51,7 @@ private Category category;
 
     protected Transaction() {} 
 
-    public Transaction(double amount, TransactionType transactionType, Category category, LocalDate date) {
+    public Transaction(long amount, TransactionType transactionType, Category category, LocalDate date) {
         this.amount = amount;
         this.transactionType = transactionType;
         this.category = category;
@@ -53,7 +62,7 @@ private Category category;
         return id;
     }
 
-    public double getAmount() {
+    public long getAmount() {
         return amount;
     }
 
@@ -65,6 +74,10 @@ private Category category;
         return category;
     }
 
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
     public LocalDate getDate() {
         return date;
     }
@@ -72,8 +85,8 @@ private Category category;
     @Override
     public String toString() {
         return String.format(
-            "Transaction{id=%d, amount=%.2f, type=%s, category=%s, date=%s}",
-            id, amount, transactionType, category, date
+            "Transaction{id=%d, amount=%s, type=%s, category=%s, date=%s}",
+            id, Money.toString(amount), transactionType, category, date
         );
     }
 }
@@ -1,11 +1,42 @@
 package com.expense_tracker.repository;
 
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.expense_tracker.model.CategoryType;
 import com.expense_tracker.model.entity.Category;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-    // Add findByCategoryType(CategoryType type) if needed
+    Optional<Category> findByNameAndCategoryType(String name, CategoryType categoryType);
+
+    // Waits for a concurrent insert of the same key instead of failing on the unique constraint
+    @Modifying
+    @Query(value = """
+            INSERT INTO categories (id, name, category_type)
+            VALUES (nextval('categories_seq'), :name, :categoryType)
+            ON CONFLICT (name, category_type) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("categoryType") String categoryType);
+
+    @Query("SELECT c.id FROM Category c WHERE c.id IN :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    // Transaction-scoped advisory locks; the shared side is taken by writers, the exclusive side by cleanup
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock_shared(:key)", nativeQuery = true)
+    int lockShared(long key);
+
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    int lockExclusive(long key);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Category c WHERE NOT EXISTS (SELECT 1 FROM Transaction t WHERE t.category = c)")
+    int deleteUnused();
 }
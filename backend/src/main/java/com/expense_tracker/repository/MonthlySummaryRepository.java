@@ -0,0 +1,49 @@
+package com.expense_tracker.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.expense_tracker.model.entity.MonthlySummary;
+
+@Repository
+public interface MonthlySummaryRepository extends JpaRepository<MonthlySummary, Long> {
+
+    // Creates the cell or adds to it in one statement, so concurrent first writers to a cell
+    // cannot both insert; the row lock taken by the update serializes later increments
+    @Modifying
+    @Query(value = """
+            INSERT INTO monthly_summary (id, summary_year, summary_month, category_type,
+                                         income_total_minor, expense_total_minor, income_count, expense_count)
+            VALUES (nextval('monthly_summary_seq'), :year, :month, :categoryType,
+                    :income, :expense, :incomeCount, :expenseCount)
+            ON CONFLICT (summary_year, summary_month, category_type) DO UPDATE SET
+                income_total_minor  = monthly_summary.income_total_minor + EXCLUDED.income_total_minor,
+                expense_total_minor = monthly_summary.expense_total_minor + EXCLUDED.expense_total_minor,
+                income_count        = monthly_summary.income_count + EXCLUDED.income_count,
+                expense_count       = monthly_summary.expense_count + EXCLUDED.expense_count
+            """, nativeQuery = true)
+    void addTotals(@Param("year") int year, @Param("month") int month, @Param("categoryType") String categoryType,
+                   @Param("income") long income, @Param("expense") long expense,
+                   @Param("incomeCount") long incomeCount, @Param("expenseCount") long expenseCount);
+
+    List<MonthlySummary> findByYearAndMonth(int year, int month);
+
+    List<MonthlySummary> findAllByOrderByYearAscMonthAsc();
+
+    @Query("""
+            SELECT s FROM MonthlySummary s
+            WHERE s.year * 12 + s.month - 1 BETWEEN :fromPeriod AND :toPeriod
+            ORDER BY s.year, s.month
+            """)
+    List<MonthlySummary> findByPeriodBetween(@Param("fromPeriod") int fromPeriod, @Param("toPeriod") int toPeriod);
+
+    // Periods are year * 12 + month - 1, so a range spans year boundaries
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MonthlySummary s WHERE s.year * 12 + s.month - 1 BETWEEN :fromPeriod AND :toPeriod")
+    int deleteByPeriodBetween(@Param("fromPeriod") int fromPeriod, @Param("toPeriod") int toPeriod);
+}
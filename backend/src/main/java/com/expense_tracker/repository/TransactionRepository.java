@@ -1,11 +1,100 @@
 package com.expense_tracker.repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.repository.projection.MonthlyTotal;
+import com.expense_tracker.repository.projection.TransactionRow;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    // You can define custom query methods here if needed
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
+
+    // Loads the category in the same query so page mapping does not fire one SELECT per row
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Page<Transaction> findAll(Pageable pageable);
+
+    // Filtered pages, see TransactionSpecifications
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Page<Transaction> findAll(Specification<Transaction> spec, Pageable pageable);
+
+    @Query("""
+            SELECT new com.expense_tracker.repository.projection.TransactionRow(
+                t.id, t.amount, t.transactionType, c.categoryType, t.date)
+            FROM Transaction t JOIN t.category c
+            """)
+    List<TransactionRow> findAllRows();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.expense_tracker.repository.projection.TransactionRow(
+                t.id, t.amount, t.transactionType, c.categoryType, t.date)
+            FROM Transaction t JOIN t.category c
+            """)
+    Stream<TransactionRow> streamAllRows();
+
+    // Source of truth for rebuilding the monthly_summary rollup
+    @Query("""
+            SELECT new com.expense_tracker.repository.projection.MonthlyTotal(
+                YEAR(t.date), MONTH(t.date), c.categoryType, t.transactionType, SUM(t.amount), COUNT(t))
+            FROM Transaction t JOIN t.category c
+            GROUP BY YEAR(t.date), MONTH(t.date), c.categoryType, t.transactionType
+            """)
+    List<MonthlyTotal> sumByMonthAndCategory();
+
+    @Query("""
+            SELECT new com.expense_tracker.repository.projection.MonthlyTotal(
+                YEAR(t.date), MONTH(t.date), c.categoryType, t.transactionType, SUM(t.amount), COUNT(t))
+            FROM Transaction t JOIN t.category c
+            WHERE t.date BETWEEN :from AND :to
+            GROUP BY YEAR(t.date), MONTH(t.date), c.categoryType, t.transactionType
+            """)
+    List<MonthlyTotal> sumByMonthAndCategoryBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Single statement instead of deleteAll(), which loads and removes every entity.
+    // TRUNCATE skips per-row work entirely; it is transactional in PostgreSQL.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "TRUNCATE TABLE transactions", nativeQuery = true)
+    void truncate();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Transaction t WHERE t.date BETWEEN :from AND :to")
+    int deleteByDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Server-side cursor for full reads; callers must hold a transaction and close the stream
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.category")
+    Stream<Transaction> streamAll();
+
+    // Keyset pagination over idx_transactions_date_id; List return type skips the count query
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.category ORDER BY t.date, t.id")
+    List<Transaction> findFirstByDateAndId(Pageable pageable);
+
+    @Query("""
+            SELECT t FROM Transaction t JOIN FETCH t.category
+            WHERE t.date >= :date AND (t.date > :date OR t.id > :id)
+            ORDER BY t.date, t.id
+            """)
+    List<Transaction> findAfterByDateAndId(@Param("date") LocalDate date, @Param("id") long id, Pageable pageable);
 }
@@ -0,0 +1,53 @@
+package com.expense_tracker.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.expense_tracker.dto.TransactionFilter;
+import com.expense_tracker.model.entity.Category;
+import com.expense_tracker.model.entity.Transaction;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Criteria for {@link TransactionFilter}. Only the restrictions that are set become predicates,
+ * so each combination runs as a plain range or equality scan on the transactions indexes.
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> matching(TransactionFilter filter) {
+        List<Specification<Transaction>> specs = new ArrayList<>();
+        if (filter.from() != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), filter.from()));
+        }
+        if (filter.to() != null) {
+            specs.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), filter.to()));
+        }
+        if (!filter.categories().isEmpty()) {
+            // category_id IN (SELECT id FROM categories ...) rather than a join, so the predicate
+            // lands on idx_transactions_category_date and does not clash with the fetch join
+            specs.add((root, query, cb) -> {
+                Subquery<Long> ids = query.subquery(Long.class);
+                Root<Category> category = ids.from(Category.class);
+                ids.select(category.get("id")).where(category.get("categoryType").in(filter.categories()));
+                return root.get("category").get("id").in(ids);
+            });
+        }
+        if (filter.transactionType() != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("transactionType"), filter.transactionType()));
+        }
+        if (filter.minAmount() != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), filter.minAmount()));
+        }
+        if (filter.maxAmount() != null) {
+            specs.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), filter.maxAmount()));
+        }
+        return Specification.allOf(specs);
+    }
+}
@@ -0,0 +1,13 @@
+package com.expense_tracker.repository.projection;
+
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+
+/**
+ * Sum and row count of transaction amounts for one year-month, category type
+ * and transaction type, computed by the database instead of in memory. Totals are
+ * in minor units.
+ */
+public record MonthlyTotal(int year, int month, CategoryType categoryType,
+                           TransactionType transactionType, long total, long count) {
+}
@@ -0,0 +1,15 @@
+package com.expense_tracker.repository.projection;
+
+import java.time.LocalDate;
+
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+
+/**
+ * Flat read-only view of a transaction and its category type, selected in a single
+ * joined query for export paths that do not need managed entities. The amount is
+ * in minor units.
+ */
+public record TransactionRow(long id, long amount, TransactionType transactionType, CategoryType categoryType,
+                             LocalDate date) {
+}
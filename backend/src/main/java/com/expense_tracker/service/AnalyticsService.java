@@ -0,0 +1,13 @@
+package com.expense_tracker.service;
+
+import java.util.List;
+
+import com.expense_tracker.dto.AnalyticsBucket;
+import com.expense_tracker.dto.AnalyticsQuery;
+
+public interface AnalyticsService {
+    // Buckets are returned in key order
+    List<AnalyticsBucket> aggregate(AnalyticsQuery query);
+    long size();
+    void reload();
+}
@@ -0,0 +1,18 @@
+package com.expense_tracker.service;
+
+import java.util.Collection;
+
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.entity.Category;
+import com.expense_tracker.model.entity.Transaction;
+
+public interface CategoryService {
+    Category resolve(String name, CategoryType categoryType);
+    void evictAll();
+    // Keeps deleteUnused out until the caller commits, re-resolving categories it already deleted
+    void lockReferenced(Collection<Transaction> transactions);
+    // Deletes categories no transaction refers to; the cache is emptied again once the caller commits
+    int deleteUnused();
+    // Takes deleteUnused's lock early, for callers that lock tables writers need before cleaning up
+    void lockForCleanup();
+}
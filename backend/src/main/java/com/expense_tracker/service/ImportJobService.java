@@ -0,0 +1,14 @@
+package com.expense_tracker.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.expense_tracker.dto.ImportJobDTO;
+
+public interface ImportJobService {
+    ImportJobDTO submit(MultipartFile file);
+    Optional<ImportJobDTO> getJob(UUID id);
+    Optional<ImportJobDTO> cancel(UUID id);
+}
@@ -0,0 +1,21 @@
+package com.expense_tracker.service;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+import com.expense_tracker.model.entity.MonthlySummary;
+import com.expense_tracker.model.entity.Transaction;
+
+public interface MonthlySummaryService {
+    void record(Transaction transaction);
+    void record(Collection<Transaction> transactions);
+    List<MonthlySummary> getSummaries();
+    List<MonthlySummary> getSummaries(int year, int month);
+    // Rows for the months from..to (inclusive), ordered by year and month
+    List<MonthlySummary> getSummaries(YearMonth from, YearMonth to);
+    void clear();
+    void rebuild();
+    // Recomputes the months from..to (inclusive) from the transactions after rows were deleted
+    void recompute(YearMonth from, YearMonth to);
+}
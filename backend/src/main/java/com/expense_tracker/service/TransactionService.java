@@ -2,26 +2,53 @@ package com.expense_tracker.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.expense_tracker.dto.BatchIngestResult;
+import com.expense_tracker.dto.CategoryBreakdownDTO;
+import com.expense_tracker.dto.CsvImportResult;
+import com.expense_tracker.dto.MonthlySummaryDTO;
+import com.expense_tracker.dto.SummaryVersion;
+import com.expense_tracker.dto.TransactionFilter;
 import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.repository.projection.TransactionRow;
+import com.expense_tracker.util.TransactionCursor;
 
 public interface TransactionService {
     void addTransaction(Transaction transaction);
+    // Reads a JSON array or NDJSON stream and persists the valid elements, one database transaction per chunk
+    BatchIngestResult addTransactions(InputStream json) throws IOException;
     List<Transaction> getAllTransactions();
+    void forEachTransaction(Consumer<Transaction> action);
+    void forEachTransaction(TransactionFilter filter, Consumer<Transaction> action);
+    void forEachTransactionRow(Consumer<TransactionRow> action);
     Page<Transaction> getTransactionsPage(Pageable pageable);
+    Page<Transaction> getTransactionsPage(TransactionFilter filter, Pageable pageable);
+    List<Transaction> getTransactionsAfter(TransactionCursor cursor, int size);
+    long countTransactions();
     Map<String, Double> getMonthlySummary();
     String getMonthlySummary(int year, int month);
     String getAllMonthsSummary();
+    List<MonthlySummaryDTO> getMonthSummaries();
+    MonthlySummaryDTO getMonthSummary(int year, int month);
+    // Null bounds default to the first and last recorded month
+    List<CategoryBreakdownDTO> getCategoryBreakdown(YearMonth from, YearMonth to);
+    SummaryVersion getSummaryVersion();
+    void rebuildSummaries();
     void importFromCSV(String filePath) throws IOException;
     void exportToCSV(String filePath) throws IOException;
     void deleteAll(); // optional - only if needed
-    void loadTransactionsFromCSV(MultipartFile file);
+    int deleteTransactionsBetween(LocalDate from, LocalDate to);
+    CsvImportResult loadTransactionsFromCSV(MultipartFile file);
     File generateCSVFromTransactions();
     void clearAllTransactions();
 }
@@ -0,0 +1,498 @@
+package com.expense_tracker.service.impl;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.expense_tracker.dto.AnalyticsBucket;
+import com.expense_tracker.dto.AnalyticsQuery;
+import com.expense_tracker.event.TransactionsChangedEvent;
+import com.expense_tracker.model.AnalyticsGrouping;
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+import com.expense_tracker.repository.TransactionRepository;
+import com.expense_tracker.repository.projection.TransactionRow;
+import com.expense_tracker.service.AnalyticsService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory column store of every transaction: amounts in minor units as {@code long[]}, dates
+ * as epoch days in {@code int[]} and category/transaction types as ordinals in {@code byte[]}.
+ * It is loaded once at startup and then appended to from committed writes; deletes reload it on
+ * a background thread, so queries see the deleted rows until that reload completes.
+ * Queries scan the columns in parallel slices, each slice summing into its own bucket arrays.
+ *
+ * <p>Readers take the current {@link Columns} snapshot without locking: appends only write past
+ * the published size, and growing or reloading publishes new arrays.
+ *
+ * <p>A reload cannot tell whether a write that commits while the table is being read is in the
+ * result. Rows added during a reload are therefore queued and, once the read completes, appended
+ * unless their id was read. The reload then publishes a change event for the months whose rows
+ * were deleted (every month for {@link #reload()}), so totals cached from the old snapshot are evicted.
+ */
+@Service
+@ConditionalOnProperty(name = "app.analytics.columnar.enabled", havingValue = "true")
+public class ColumnarAnalyticsService implements AnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarAnalyticsService.class);
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final int MIN_SLICE = 1 << 16;
+    private static final CategoryType[] CATEGORY_TYPES = CategoryType.values();
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate readTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    // Serializes reloads; held for the whole read
+    private final Object reloadLock = new Object();
+    // Guards appends, publishing and the pending queue; only held briefly
+    private final Object writeLock = new Object();
+    private volatile Columns columns = Columns.empty(INITIAL_CAPACITY);
+    // Rows committed while a reload is reading the table; null when no reload is running
+    private List<TransactionRow> pending;
+    // Deletes the next background reload has to pick up, guarded by writeLock
+    private final Set<YearMonth> removedMonths = new HashSet<>();
+    private boolean allMonthsRemoved;
+    private boolean reloadScheduled;
+    // One thread, so deletes committed while a reload runs are picked up by a single later reload
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("column-store-reload").daemon().factory());
+
+    public ColumnarAnalyticsService(TransactionRepository transactionRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.transactionRepository = transactionRepository;
+        this.eventPublisher = eventPublisher;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+        log.info("Loaded {} transactions into the column store", columns.size);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    @Override
+    public void reload() {
+        readColumns();
+        eventPublisher.publishEvent(TransactionsChangedEvent.rebuilt());
+    }
+
+    private void readColumns() {
+        synchronized (reloadLock) {
+            // Queued before the read starts, so every row missing from the result is queued
+            synchronized (writeLock) {
+                pending = new ArrayList<>();
+            }
+            try {
+                Loaded loaded = readTransaction.execute(status -> read());
+                synchronized (writeLock) {
+                    if (!pending.isEmpty()) {
+                        appendUnread(loaded);
+                    }
+                    columns = loaded.columns;
+                }
+            } finally {
+                synchronized (writeLock) {
+                    pending = null;
+                }
+            }
+        }
+    }
+
+    // Reloads after deletes on the background thread, then evicts only the months they touched
+    private void reloadRemoved() {
+        Set<YearMonth> months;
+        boolean allMonths;
+        synchronized (writeLock) {
+            // Cleared before reading, so a delete committed during the read schedules another reload
+            months = Set.copyOf(removedMonths);
+            allMonths = allMonthsRemoved;
+            removedMonths.clear();
+            allMonthsRemoved = false;
+            reloadScheduled = false;
+        }
+        try {
+            readColumns();
+        } catch (RuntimeException e) {
+            log.error("Reloading the column store after a delete failed", e);
+            return;
+        }
+        // No transaction here, so the change listeners run through their fallback execution
+        eventPublisher.publishEvent(allMonths ? TransactionsChangedEvent.rebuilt() : TransactionsChangedEvent.recomputed(months));
+    }
+
+    private Loaded read() {
+        try (Stream<TransactionRow> rows = transactionRepository.streamAllRows()) {
+            int capacity = Math.max(INITIAL_CAPACITY, columns.size);
+            Loaded loaded = new Loaded(Columns.empty(capacity), new long[capacity]);
+            rows.forEach(loaded::append);
+            return loaded;
+        }
+    }
+
+    // Appends the queued rows whose ids the read did not return
+    private void appendUnread(Loaded loaded) {
+        Set<Long> unread = new HashSet<>();
+        for (TransactionRow row : pending) {
+            unread.add(row.id());
+        }
+        for (int i = 0; i < loaded.columns.size && !unread.isEmpty(); i++) {
+            unread.remove(loaded.ids[i]);
+        }
+        Columns target = loaded.columns.ensureCapacity(loaded.columns.size + unread.size());
+        for (TransactionRow row : pending) {
+            if (unread.contains(row.id())) {
+                target.append(row);
+            }
+        }
+        loaded.columns = target;
+    }
+
+    // Runs before the summary cache is evicted, so a re-cached summary already sees these rows
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        if (event.rowsRemoved()) {
+            scheduleReload(event);
+            return;
+        }
+        if (event.added().isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (pending != null) {
+                pending.addAll(event.added());
+                return;
+            }
+            Columns target = columns.ensureCapacity(columns.size + event.added().size());
+            for (TransactionRow row : event.added()) {
+                target.append(row);
+            }
+            columns = target;
+        }
+    }
+
+    private void scheduleReload(TransactionsChangedEvent event) {
+        synchronized (writeLock) {
+            if (event.allMonths()) {
+                allMonthsRemoved = true;
+            } else {
+                removedMonths.addAll(event.months());
+            }
+            if (!reloadScheduled) {
+                reloadScheduled = true;
+                reloader.execute(this::reloadRemoved);
+            }
+        }
+    }
+
+    @Override
+    public long size() {
+        return columns.size;
+    }
+
+    @Override
+    public List<AnalyticsBucket> aggregate(AnalyticsQuery query) {
+        if (query.windowDays() > 0 && query.groupBy() != AnalyticsGrouping.DAY) {
+            throw new IllegalArgumentException("A rolling window requires DAY grouping");
+        }
+        Columns snapshot = columns;
+        if (snapshot.size == 0) {
+            return List.of();
+        }
+
+        // Clamped to the stored dates so open or generous ranges do not size the buckets
+        int fromDay = query.from() != null ? (int) Math.max(query.from().toEpochDay(), snapshot.minDay) : snapshot.minDay;
+        int toDay = query.to() != null ? (int) Math.min(query.to().toEpochDay(), snapshot.maxDay) : snapshot.maxDay;
+        if (fromDay > toDay) {
+            return List.of();
+        }
+        Grouping grouping = Grouping.of(query.groupBy(), fromDay, toDay);
+        int categoryMask = categoryMask(query);
+        int typeFilter = query.transactionType() != null ? query.transactionType().ordinal() : -1;
+
+        int slices = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), snapshot.size / MIN_SLICE));
+        int sliceSize = (snapshot.size + slices - 1) / slices;
+        Totals totals = IntStream.range(0, slices).parallel()
+                .mapToObj(slice -> scan(snapshot, slice * sliceSize, Math.min(snapshot.size, (slice + 1) * sliceSize),
+                        fromDay, toDay, categoryMask, typeFilter, grouping))
+                .reduce(Totals::add)
+                .orElseGet(() -> new Totals(grouping.buckets()));
+
+        return query.windowDays() > 0
+                ? rolling(totals, grouping, query.windowDays())
+                : toBuckets(totals, grouping);
+    }
+
+    private static Totals scan(Columns c, int from, int to, int fromDay, int toDay, int categoryMask,
+                               int typeFilter, Grouping grouping) {
+        Totals totals = new Totals(grouping.buckets());
+        long[] amount = c.amount;
+        int[] day = c.epochDay;
+        byte[] category = c.category;
+        byte[] type = c.type;
+        for (int i = from; i < to; i++) {
+            int d = day[i];
+            if (d < fromDay || d > toDay
+                    || (categoryMask & (1 << category[i])) == 0
+                    || (typeFilter >= 0 && type[i] != typeFilter)) {
+                continue;
+            }
+            int bucket = grouping.bucketOf(d, category[i], type[i]);
+            if (type[i] == TransactionType.INCOME.ordinal()) {
+                totals.income[bucket] += amount[i];
+            } else {
+                totals.expense[bucket] += amount[i];
+            }
+            totals.count[bucket]++;
+        }
+        return totals;
+    }
+
+    private static List<AnalyticsBucket> toBuckets(Totals totals, Grouping grouping) {
+        List<AnalyticsBucket> buckets = new ArrayList<>();
+        for (int b = 0; b < totals.count.length; b++) {
+            if (totals.count[b] > 0) {
+                buckets.add(new AnalyticsBucket(grouping.keyOf(b), totals.income[b], totals.expense[b],
+                        totals.income[b] - totals.expense[b], totals.count[b]));
+            }
+        }
+        return buckets;
+    }
+
+    // Every day of the range is reported, each with the sums over the trailing window ending on it
+    private static List<AnalyticsBucket> rolling(Totals totals, Grouping grouping, int windowDays) {
+        List<AnalyticsBucket> buckets = new ArrayList<>(totals.count.length);
+        long income = 0;
+        long expense = 0;
+        long count = 0;
+        for (int b = 0; b < totals.count.length; b++) {
+            income += totals.income[b];
+            expense += totals.expense[b];
+            count += totals.count[b];
+            if (b >= windowDays) {
+                income -= totals.income[b - windowDays];
+                expense -= totals.expense[b - windowDays];
+                count -= totals.count[b - windowDays];
+            }
+            buckets.add(new AnalyticsBucket(grouping.keyOf(b), income, expense, income - expense, count));
+        }
+        return buckets;
+    }
+
+    private static int categoryMask(AnalyticsQuery query) {
+        if (query.categories() == null || query.categories().isEmpty()) {
+            return -1;
+        }
+        int mask = 0;
+        for (CategoryType categoryType : query.categories()) {
+            mask |= 1 << categoryType.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Maps a row to a dense bucket index. Day, week and month buckets are offsets from the
+     * start of the queried range, so the bucket arrays only cover that range.
+     */
+    private record Grouping(AnalyticsGrouping groupBy, int fromDay, int buckets, int[] monthOfDay, int firstMonth) {
+
+        static Grouping of(AnalyticsGrouping groupBy, int fromDay, int toDay) {
+            return switch (groupBy) {
+                case NONE -> new Grouping(groupBy, fromDay, 1, null, 0);
+                case DAY -> new Grouping(groupBy, fromDay, toDay - fromDay + 1, null, 0);
+                case WEEK -> new Grouping(groupBy, fromDay, week(toDay) - week(fromDay) + 1, null, 0);
+                case CATEGORY -> new Grouping(groupBy, fromDay, CATEGORY_TYPES.length, null, 0);
+                case TRANSACTION_TYPE -> new Grouping(groupBy, fromDay, TRANSACTION_TYPES.length, null, 0);
+                case MONTH -> {
+                    // Day-to-month lookup over the range keeps date arithmetic out of the scan loop
+                    int firstMonth = monthIndex(fromDay);
+                    int[] monthOfDay = new int[toDay - fromDay + 1];
+                    for (int d = fromDay; d <= toDay; d++) {
+                        monthOfDay[d - fromDay] = monthIndex(d) - firstMonth;
+                    }
+                    yield new Grouping(groupBy, fromDay, monthIndex(toDay) - firstMonth + 1, monthOfDay, firstMonth);
+                }
+            };
+        }
+
+        int bucketOf(int day, byte category, byte type) {
+            return switch (groupBy) {
+                case NONE -> 0;
+                case DAY -> day - fromDay;
+                case WEEK -> week(day) - week(fromDay);
+                case MONTH -> monthOfDay[day - fromDay];
+                case CATEGORY -> category;
+                case TRANSACTION_TYPE -> type;
+            };
+        }
+
+        String keyOf(int bucket) {
+            return switch (groupBy) {
+                case NONE -> "all";
+                case DAY -> LocalDate.ofEpochDay(fromDay + bucket).toString();
+                // Weeks are keyed by their Monday
+                case WEEK -> LocalDate.ofEpochDay((long) (week(fromDay) + bucket) * 7 - 3).toString();
+                case MONTH -> YearMonth.of(0, 1).plusMonths(firstMonth + bucket).toString();
+                case CATEGORY -> CATEGORY_TYPES[bucket].name();
+                case TRANSACTION_TYPE -> TRANSACTION_TYPES[bucket].name();
+            };
+        }
+
+        // 1970-01-01 was a Thursday, so shifting by three days aligns weeks to Mondays
+        private static int week(int day) {
+            return Math.floorDiv(day + 3, 7);
+        }
+
+        private static int monthIndex(int day) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            return date.getYear() * 12 + date.getMonthValue() - 1;
+        }
+    }
+
+    private static final class Totals {
+        final long[] income;
+        final long[] expense;
+        final long[] count;
+
+        Totals(int buckets) {
+            income = new long[buckets];
+            expense = new long[buckets];
+            count = new long[buckets];
+        }
+
+        Totals add(Totals other) {
+            for (int b = 0; b < count.length; b++) {
+                income[b] += other.income[b];
+                expense[b] += other.expense[b];
+                count[b] += other.count[b];
+            }
+            return this;
+        }
+    }
+
+    /** Columns being loaded by a reload, with the id of each row for matching queued rows. */
+    private static final class Loaded {
+        Columns columns;
+        long[] ids;
+
+        Loaded(Columns columns, long[] ids) {
+            this.columns = columns;
+            this.ids = ids;
+        }
+
+        void append(TransactionRow row) {
+            if (columns.isFull()) {
+                columns = columns.ensureCapacity(columns.size + 1);
+                ids = Arrays.copyOf(ids, columns.amount.length);
+            }
+            ids[columns.size] = row.id();
+            columns.append(row);
+        }
+    }
+
+    /**
+     * The columns and the number of valid rows in them. Instances are mutated only by the
+     * writer before being published through the volatile {@code columns} field.
+     */
+    private static final class Columns {
+        final long[] amount;
+        final int[] epochDay;
+        final byte[] category;
+        final byte[] type;
+        int size;
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+
+        private Columns(int capacity) {
+            amount = new long[capacity];
+            epochDay = new int[capacity];
+            category = new byte[capacity];
+            type = new byte[capacity];
+        }
+
+        static Columns empty(int capacity) {
+            return new Columns(capacity);
+        }
+
+        Columns ensureCapacity(int required) {
+            if (required <= amount.length) {
+                return copyHeader(this);
+            }
+            Columns grown = new Columns(Math.max(required, amount.length * 2));
+            System.arraycopy(amount, 0, grown.amount, 0, size);
+            System.arraycopy(epochDay, 0, grown.epochDay, 0, size);
+            System.arraycopy(category, 0, grown.category, 0, size);
+            System.arraycopy(type, 0, grown.type, 0, size);
+            grown.size = size;
+            grown.minDay = minDay;
+            grown.maxDay = maxDay;
+            return grown;
+        }
+
+        // Shares the arrays but not the size, so readers of this instance keep their view
+        private static Columns copyHeader(Columns source) {
+            Columns copy = new Columns(source);
+            copy.size = source.size;
+            copy.minDay = source.minDay;
+            copy.maxDay = source.maxDay;
+            return copy;
+        }
+
+        private Columns(Columns source) {
+            amount = source.amount;
+            epochDay = source.epochDay;
+            category = source.category;
+            type = source.type;
+        }
+
+        boolean isFull() {
+            return size == amount.length;
+        }
+
+        // Callers ensure capacity first
+        Columns append(TransactionRow row) {
+            int day = (int) row.date().toEpochDay();
+            amount[size] = row.amount();
+            epochDay[size] = day;
+            category[size] = (byte) row.categoryType().ordinal();
+            type[size] = (byte) row.transactionType().ordinal();
+            minDay = Math.min(minDay, day);
+            maxDay = Math.max(maxDay, day);
+            size++;
+            return this;
+        }
+
+    }
+}
@@ -0,0 +1,128 @@
+package com.expense_tracker.service.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.expense_tracker.event.TransactionsChangedEvent;
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.entity.Category;
+import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.repository.CategoryRepository;
+import com.expense_tracker.service.CategoryService;
+
+/**
+ * Resolves categories by their unique (name, categoryType) key through an
+ * in-process cache, so writes reuse existing rows instead of inserting one per transaction.
+ */
+@Service
+public class DefaultCategoryService implements CategoryService {
+
+    // Advisory lock key serializing deleteUnused with writers that reference categories
+    private static final long CLEANUP_LOCK = 0x63617465676f7279L;
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<CategoryKey, Category> cache = new ConcurrentHashMap<>();
+
+    public DefaultCategoryService(CategoryRepository categoryRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public Category resolve(String name, CategoryType categoryType) {
+        CategoryKey key = new CategoryKey(name, categoryType);
+        Category cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Outside the map: computeIfAbsent would hold the bin lock for the whole round trip
+        Category category = findOrCreate(key);
+        Category raced = cache.putIfAbsent(key, category);
+        return raced != null ? raced : category;
+    }
+
+    @Override
+    public void evictAll() {
+        cache.clear();
+    }
+
+    // A category resolved before a cleanup committed may be gone by now; such rows get the
+    // category re-resolved, and the shared lock keeps the next cleanup out until the caller commits
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockReferenced(Collection<Transaction> transactions) {
+        categoryRepository.lockShared(CLEANUP_LOCK);
+        Map<Long, Category> referenced = new HashMap<>();
+        for (Transaction tx : transactions) {
+            referenced.putIfAbsent(tx.getCategory().getId(), tx.getCategory());
+        }
+        Set<Long> existing = categoryRepository.findExistingIds(referenced.keySet());
+        if (existing.size() == referenced.size()) {
+            return;
+        }
+        Map<Long, Category> replacements = new HashMap<>();
+        for (Transaction tx : transactions) {
+            Category category = tx.getCategory();
+            if (!existing.contains(category.getId())) {
+                tx.setCategory(replacements.computeIfAbsent(category.getId(), id -> {
+                    cache.remove(new CategoryKey(category.getName(), category.getCategoryType()), category);
+                    return resolve(category.getName(), category.getCategoryType());
+                }));
+            }
+        }
+    }
+
+    // Waits for writers holding the shared lock, so a category committed on its own but not yet
+    // referenced is not deleted under them
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int deleteUnused() {
+        lockForCleanup();
+        int deleted = categoryRepository.deleteUnused();
+        evictAll();
+        return deleted;
+    }
+
+    // Re-taking the lock later in the same transaction does not block
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockForCleanup() {
+        categoryRepository.lockExclusive(CLEANUP_LOCK);
+    }
+
+    // A resolve racing the cleanup may re-cache a row it deleted; evicting again after commit drops it
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        if (event.rowsRemoved()) {
+            evictAll();
+        }
+    }
+
+    // Joins the caller's transaction, so no second connection is taken while it holds one. If the
+    // caller rolls back, the cached row is gone; lockReferenced re-resolves it before it is used.
+    private Category findOrCreate(CategoryKey key) {
+        return transactionTemplate.execute(status -> categoryRepository
+                .findByNameAndCategoryType(key.name(), key.categoryType())
+                .orElseGet(() -> {
+                    categoryRepository.insertIfAbsent(key.name(), key.categoryType().name());
+                    return categoryRepository.findByNameAndCategoryType(key.name(), key.categoryType())
+                            .orElseThrow();
+                }));
+    }
+
+    private record CategoryKey(String name, CategoryType categoryType) {
+    }
+}
@@ -0,0 +1,246 @@
+package com.expense_tracker.service.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.expense_tracker.dto.CsvImportResult;
+import com.expense_tracker.dto.CsvRowError;
+import com.expense_tracker.dto.ImportJobDTO;
+import com.expense_tracker.model.ImportJobStatus;
+import com.expense_tracker.service.ImportJobService;
+import com.expense_tracker.util.ParallelCsvParser;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs CSV uploads as background jobs. The upload is moved to a spool directory, parsed on the
+ * import executor and committed chunk by chunk, so a cancelled or failed job keeps the chunks
+ * written before it stopped. Finished jobs are kept for polling until the retention period ends.
+ */
+@Service
+public class DefaultImportJobService implements ImportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(DefaultImportJobService.class);
+
+    private final ParallelCsvParser parallelCsvParser;
+    private final TransactionBatchWriter batchWriter;
+    private final TaskExecutor importExecutor;
+    private final Path storageDir;
+    private final int chunkSize;
+    private final Duration retention;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public DefaultImportJobService(ParallelCsvParser parallelCsvParser,
+                                   TransactionBatchWriter batchWriter,
+                                   @Qualifier("importExecutor") TaskExecutor importExecutor,
+                                   @Value("${app.import.jobs.storage-dir:${java.io.tmpdir}/expense-tracker-imports}") Path storageDir,
+                                   @Value("${app.import.chunk-size:1000}") int chunkSize,
+                                   @Value("${app.import.jobs.retention:PT1H}") Duration retention) {
+        this.parallelCsvParser = parallelCsvParser;
+        this.batchWriter = batchWriter;
+        this.importExecutor = importExecutor;
+        this.storageDir = storageDir;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+    }
+
+    @Override
+    public ImportJobDTO submit(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Uploaded file is empty");
+        }
+        evictExpiredJobs();
+
+        UUID id = UUID.randomUUID();
+        Path target = storageDir.resolve(id + ".csv");
+        try {
+            Files.createDirectories(storageDir);
+            // Moves the multipart temp file where possible rather than copying it through the heap
+            file.transferTo(target);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store uploaded file: " + e.getMessage(), e);
+        }
+
+        ImportJob job = new ImportJob(id, file.getOriginalFilename(), target);
+        jobs.put(id, job);
+        try {
+            importExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(id);
+            deleteQuietly(target);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many imports in progress, try again later");
+        }
+        return job.toDTO();
+    }
+
+    // Expired jobs are dropped on every access, so retention holds without a submit to trigger it
+    @Override
+    public Optional<ImportJobDTO> getJob(UUID id) {
+        evictExpiredJobs();
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::toDTO);
+    }
+
+    @Override
+    public Optional<ImportJobDTO> cancel(UUID id) {
+        evictExpiredJobs();
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.status.isFinished()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Import already " + job.status);
+        }
+        job.cancelRequested = true;
+        return Optional.of(job.toDTO());
+    }
+
+    // The import executor does not wait for jobs on shutdown, so jobs still queued or running
+    // are finished here instead of being left in a non-terminal state
+    @PreDestroy
+    public void shutdown() {
+        for (ImportJob job : jobs.values()) {
+            job.cancelRequested = true;
+            if (job.status == ImportJobStatus.QUEUED
+                    && job.finish(ImportJobStatus.CANCELLED, "Server shut down before the import started")) {
+                deleteQuietly(job.file);
+            } else if (job.status == ImportJobStatus.RUNNING) {
+                job.finish(ImportJobStatus.FAILED, "Server shut down after " + job.imported.get() + " rows");
+            }
+        }
+    }
+
+    private void run(ImportJob job) {
+        try {
+            if (job.cancelRequested) {
+                job.finish(ImportJobStatus.CANCELLED, "Cancelled before start");
+                return;
+            }
+            if (!job.start()) {
+                return;
+            }
+            CsvImportResult result = parallelCsvParser.parse(job.file, chunkSize, chunk -> {
+                if (job.cancelRequested) {
+                    throw new CancellationException();
+                }
+                // No surrounding transaction here, so every chunk commits on its own
+                batchWriter.write(chunk);
+                job.imported.addAndGet(chunk.size());
+            }, job::reject);
+            job.finish(ImportJobStatus.COMPLETED, null);
+            log.debug("Import {} finished: {} imported, {} rejected", job.id, result.imported(), result.rejected());
+        } catch (CancellationException e) {
+            job.finish(ImportJobStatus.CANCELLED, "Cancelled after " + job.imported.get() + " rows");
+        } catch (Exception e) {
+            log.warn("Import {} failed", job.id, e);
+            job.finish(ImportJobStatus.FAILED, e.getMessage());
+        } finally {
+            deleteQuietly(job.file);
+        }
+    }
+
+    private void evictExpiredJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.status.isFinished() && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    private static final class ImportJob {
+        final UUID id;
+        final String fileName;
+        final Path file;
+        final Instant submittedAt = Instant.now();
+        final AtomicLong imported = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final List<CsvRowError> errors = new ArrayList<>();
+        volatile boolean cancelRequested;
+        volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+        volatile String message;
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+
+        ImportJob(UUID id, String fileName, Path file) {
+            this.id = id;
+            this.fileName = fileName;
+            this.file = file;
+        }
+
+        synchronized boolean start() {
+            if (status.isFinished()) {
+                return false;
+            }
+            startedAt = Instant.now();
+            status = ImportJobStatus.RUNNING;
+            return true;
+        }
+
+        // The first finish wins, so the worker cannot overwrite a status set on shutdown.
+        // Status is written last: a finished status implies finishedAt is set.
+        synchronized boolean finish(ImportJobStatus finalStatus, String finalMessage) {
+            if (status.isFinished()) {
+                return false;
+            }
+            message = finalMessage;
+            finishedAt = Instant.now();
+            status = finalStatus;
+            return true;
+        }
+
+        void reject(long count, List<CsvRowError> rowErrors) {
+            rejected.addAndGet(count);
+            synchronized (errors) {
+                for (CsvRowError error : rowErrors) {
+                    if (errors.size() >= CsvImportResult.MAX_REPORTED_ERRORS) {
+                        break;
+                    }
+                    errors.add(error);
+                }
+            }
+        }
+
+        ImportJobDTO toDTO() {
+            Instant started = startedAt;
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            long rows = imported.get();
+            double rowsPerSecond = 0.0;
+            if (started != null) {
+                long millis = Math.max(1, Duration.between(started, end).toMillis());
+                rowsPerSecond = rows * 1000.0 / millis;
+            }
+            List<CsvRowError> errorSnapshot;
+            synchronized (errors) {
+                errorSnapshot = List.copyOf(errors);
+            }
+            return new ImportJobDTO(id, fileName, status, rows, rejected.get(), rowsPerSecond,
+                    errorSnapshot, message, submittedAt, started, finishedAt);
+        }
+    }
+}
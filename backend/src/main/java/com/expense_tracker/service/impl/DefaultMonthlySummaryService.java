@@ -0,0 +1,162 @@
+package com.expense_tracker.service.impl;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.expense_tracker.event.TransactionsChangedEvent;
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+import com.expense_tracker.model.entity.MonthlySummary;
+import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.repository.MonthlySummaryRepository;
+import com.expense_tracker.repository.TransactionRepository;
+import com.expense_tracker.repository.projection.MonthlyTotal;
+import com.expense_tracker.repository.projection.TransactionRow;
+import com.expense_tracker.service.MonthlySummaryService;
+
+@Service
+public class DefaultMonthlySummaryService implements MonthlySummaryService {
+
+    private final MonthlySummaryRepository summaryRepository;
+    private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DefaultMonthlySummaryService(MonthlySummaryRepository summaryRepository,
+                                        TransactionRepository transactionRepository,
+                                        ApplicationEventPublisher eventPublisher) {
+        this.summaryRepository = summaryRepository;
+        this.transactionRepository = transactionRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // MANDATORY: the rollup must commit or roll back together with the rows it describes
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Transaction transaction) {
+        record(List.of(transaction));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Collection<Transaction> transactions) {
+        // Collapse the batch to one delta per cell so each summary row is touched once. Cells are
+        // upserted in key order so writers with overlapping batches lock rows in the same order.
+        Map<SummaryKey, Delta> deltas = new TreeMap<>(SummaryKey.ORDER);
+        for (Transaction tx : transactions) {
+            SummaryKey key = new SummaryKey(tx.getDate().getYear(), tx.getDate().getMonthValue(),
+                    tx.getCategory().getCategoryType());
+            Delta delta = deltas.computeIfAbsent(key, k -> new Delta());
+            if (tx.getTransactionType() == TransactionType.INCOME) {
+                delta.income += tx.getAmount();
+                delta.incomeCount++;
+            } else {
+                delta.expense += tx.getAmount();
+                delta.expenseCount++;
+            }
+        }
+
+        deltas.forEach((key, delta) -> summaryRepository.addTotals(key.year(), key.month(),
+                key.categoryType().name(), delta.income, delta.expense, delta.incomeCount, delta.expenseCount));
+
+        eventPublisher.publishEvent(TransactionsChangedEvent.added(
+                deltas.keySet().stream().map(key -> YearMonth.of(key.year(), key.month())).collect(Collectors.toSet()),
+                transactions.stream().map(tx -> new TransactionRow(tx.getId(), tx.getAmount(), tx.getTransactionType(),
+                        tx.getCategory().getCategoryType(), tx.getDate())).toList()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MonthlySummary> getSummaries() {
+        return summaryRepository.findAllByOrderByYearAscMonthAsc();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MonthlySummary> getSummaries(int year, int month) {
+        return summaryRepository.findByYearAndMonth(year, month);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MonthlySummary> getSummaries(YearMonth from, YearMonth to) {
+        return summaryRepository.findByPeriodBetween(periodKey(from), periodKey(to));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void clear() {
+        summaryRepository.deleteAllInBatch();
+        eventPublisher.publishEvent(TransactionsChangedEvent.cleared());
+    }
+
+    @Override
+    @Transactional
+    public void rebuild() {
+        summaryRepository.deleteAllInBatch();
+        saveTotals(null, null);
+        eventPublisher.publishEvent(TransactionsChangedEvent.rebuilt());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recompute(YearMonth from, YearMonth to) {
+        summaryRepository.deleteByPeriodBetween(periodKey(from), periodKey(to));
+        saveTotals(from, to);
+
+        Set<YearMonth> months = new HashSet<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        eventPublisher.publishEvent(TransactionsChangedEvent.removed(months));
+    }
+
+    // Aggregates the transactions of from..to (inclusive), or of every month when both are null,
+    // into summary rows
+    private void saveTotals(YearMonth from, YearMonth to) {
+        List<MonthlyTotal> totals = from == null
+                ? transactionRepository.sumByMonthAndCategory()
+                : transactionRepository.sumByMonthAndCategoryBetween(from.atDay(1), to.atEndOfMonth());
+        Map<SummaryKey, MonthlySummary> summaries = new HashMap<>();
+        for (MonthlyTotal total : totals) {
+            MonthlySummary summary = summaries.computeIfAbsent(
+                    new SummaryKey(total.year(), total.month(), total.categoryType()),
+                    key -> new MonthlySummary(key.year(), key.month(), key.categoryType()));
+            if (total.transactionType() == TransactionType.INCOME) {
+                summary.addIncome(total.total(), total.count());
+            } else {
+                summary.addExpense(total.total(), total.count());
+            }
+        }
+        summaryRepository.saveAll(summaries.values());
+    }
+
+    private static int periodKey(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    private record SummaryKey(int year, int month, CategoryType categoryType) {
+        static final Comparator<SummaryKey> ORDER = Comparator.comparingInt(SummaryKey::year)
+                .thenComparingInt(SummaryKey::month)
+                .thenComparing(SummaryKey::categoryType);
+    }
+
+    private static final class Delta {
+        private long income;
+        private long expense;
+        private long incomeCount;
+        private long expenseCount;
+    }
+}
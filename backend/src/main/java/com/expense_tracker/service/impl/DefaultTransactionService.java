@@ -2,39 +2,211 @@ package com.expense_tracker.service.impl;
 
 import java.io.File;
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
-import com.expense_tracker.model.TransactionType;
+import com.expense_tracker.config.CacheConfig;
+import com.expense_tracker.dto.AnalyticsBucket;
+import com.expense_tracker.dto.AnalyticsQuery;
+import com.expense_tracker.dto.BatchIngestResult;
+import com.expense_tracker.dto.BatchItemError;
+import com.expense_tracker.dto.CategoryBreakdownDTO;
+import com.expense_tracker.dto.CsvImportResult;
+import com.expense_tracker.dto.MonthlySummaryDTO;
+import com.expense_tracker.dto.SummaryVersion;
+import com.expense_tracker.dto.TransactionDTO;
+import com.expense_tracker.dto.TransactionFilter;
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.entity.Category;
+import com.expense_tracker.model.entity.MonthlySummary;
 import com.expense_tracker.model.entity.Transaction;
 import com.expense_tracker.repository.TransactionRepository;
+import com.expense_tracker.repository.TransactionSpecifications;
+import com.expense_tracker.repository.projection.TransactionRow;
+import com.expense_tracker.service.AnalyticsService;
+import com.expense_tracker.service.CategoryService;
+import com.expense_tracker.service.MonthlySummaryService;
 import com.expense_tracker.service.TransactionService;
+import com.expense_tracker.util.Money;
+import com.expense_tracker.util.ParallelCsvParser;
+import com.expense_tracker.util.TransactionCursor;
 import com.expense_tracker.util.TransactionFileService;
-import com.opencsv.exceptions.CsvValidationException;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// One timer per method, tagged with class and method name
+@Timed("transactions.service")
 @Service
 public class DefaultTransactionService implements TransactionService {
 
+    private static final String CURRENCY = "INR";
+    private static final CategoryType[] CATEGORY_TYPES = CategoryType.values();
+    private static final int MAX_BREAKDOWN_MONTHS = 1200;
+
     private final TransactionRepository transactionRepository;
     private final TransactionFileService fileService;
+    private final ParallelCsvParser parallelCsvParser;
+    private final MonthlySummaryService summaryService;
+    private final CategoryService categoryService;
+    private final TransactionBatchWriter batchWriter;
+    private final EntityManager entityManager;
+    private final Optional<AnalyticsService> analyticsService;
+    private final VersionedSummaryCache summaryCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Counter exported;
+    private final int importChunkSize;
 
     public DefaultTransactionService(TransactionRepository transactionRepository,
-                                     TransactionFileService fileService) {
+                                     TransactionFileService fileService,
+                                     ParallelCsvParser parallelCsvParser,
+                                     MonthlySummaryService summaryService,
+                                     CategoryService categoryService,
+                                     TransactionBatchWriter batchWriter,
+                                     EntityManager entityManager,
+                                     Optional<AnalyticsService> analyticsService,
+                                     VersionedSummaryCache summaryCache,
+                                     ObjectMapper objectMapper,
+                                     Validator validator,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.import.chunk-size:1000}") int importChunkSize) {
         this.transactionRepository = transactionRepository;
         this.fileService = fileService;
+        this.parallelCsvParser = parallelCsvParser;
+        this.summaryService = summaryService;
+        this.categoryService = categoryService;
+        this.batchWriter = batchWriter;
+        this.entityManager = entityManager;
+        this.analyticsService = analyticsService;
+        this.summaryCache = summaryCache;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.exported = Counter.builder("transactions.exported")
+                .description("Rows read out by full listings, downloads and CSV exports")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.importChunkSize = importChunkSize;
     }
 
     @Override
+    @Transactional
     public void addTransaction(Transaction transaction) {
+        categoryService.lockReferenced(List.of(transaction));
         transactionRepository.save(transaction);
+        summaryService.record(transaction);
+    }
+
+    // A top-level array is unwrapped, so the same iterator reads JSON arrays and NDJSON
+    @Override
+    public BatchIngestResult addTransactions(InputStream json) throws IOException {
+        long start = System.nanoTime();
+        List<Transaction> chunk = new ArrayList<>(importChunkSize);
+        List<BatchItemError> errors = new ArrayList<>();
+        long accepted = 0;
+        long rejected = 0;
+        long index = 0;
+        try (MappingIterator<TransactionDTO> items = objectMapper.readerFor(TransactionDTO.class).readValues(json)) {
+            while (items.hasNextValue()) {
+                Map<String, String> itemErrors;
+                try {
+                    TransactionDTO dto = items.nextValue();
+                    itemErrors = validate(dto);
+                    if (itemErrors.isEmpty()) {
+                        chunk.add(toTransaction(dto));
+                    }
+                } catch (DatabindException e) {
+                    // The iterator skips past the rest of the bad element on the next hasNextValue
+                    itemErrors = Map.of("item", e.getOriginalMessage());
+                }
+                if (!itemErrors.isEmpty()) {
+                    rejected++;
+                    if (errors.size() < BatchIngestResult.MAX_REPORTED_ERRORS) {
+                        errors.add(new BatchItemError(index, itemErrors));
+                    }
+                }
+                index++;
+                if (chunk.size() == importChunkSize) {
+                    batchWriter.write(chunk);
+                    accepted += chunk.size();
+                    chunk = new ArrayList<>(importChunkSize);
+                }
+            }
+        } catch (StreamReadException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed JSON at element " + index
+                    + " (" + accepted + " rows already saved): " + e.getOriginalMessage());
+        }
+        if (!chunk.isEmpty()) {
+            batchWriter.write(chunk);
+            accepted += chunk.size();
+        }
+        return new BatchIngestResult(accepted, rejected,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), errors);
+    }
+
+    private Map<String, String> validate(TransactionDTO dto) {
+        if (dto == null) {
+            return Map.of("item", "Transaction must not be null");
+        }
+        Set<ConstraintViolation<TransactionDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return categoryTypeOf(dto) == null
+                    ? Map.of("categoryType", "Invalid categoryType: " + dto.getCategoryType())
+                    : Map.of();
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        violations.forEach(v -> errors.put(v.getPropertyPath().toString(), v.getMessage()));
+        return errors;
+    }
+
+    private static CategoryType categoryTypeOf(TransactionDTO dto) {
+        try {
+            return dto.getCategoryType() == null ? null : CategoryType.valueOf(dto.getCategoryType().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Only called for elements that passed validate
+    private Transaction toTransaction(TransactionDTO dto) {
+        CategoryType categoryType = categoryTypeOf(dto);
+        Category category = categoryService.resolve(dto.getCategory(), categoryType);
+        return new Transaction(dto.getAmount(), categoryType.getTransactionType(), category, dto.getDate());
     }
 
     @Override
@@ -42,109 +214,301 @@ public class DefaultTransactionService implements TransactionService {
         return transactionRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTransaction(Consumer<Transaction> action) {
+        forEach(transactionRepository.streamAll(), action);
+    }
+
+    // Same fetch size and read-only hints as streamAll, with the filter's predicates added
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTransaction(TransactionFilter filter, Consumer<Transaction> action) {
+        if (filter.isEmpty()) {
+            forEachTransaction(action);
+            return;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> query = cb.createQuery(Transaction.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        root.fetch("category");
+        query.where(TransactionSpecifications.matching(filter).toPredicate(root, query, cb));
+        forEach(entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream(), action);
+    }
+
+    private void forEach(Stream<Transaction> stream, Consumer<Transaction> action) {
+        long[] rows = {0};
+        try (Stream<Transaction> transactions = stream) {
+            transactions.forEach(tx -> {
+                action.accept(tx);
+                entityManager.detach(tx); // keep the persistence context from growing with the table
+                rows[0]++;
+            });
+        } finally {
+            exported.increment(rows[0]);
+        }
+    }
+
+    // Read-only transaction keeps the PostgreSQL cursor open and honours the fetch size
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTransactionRow(Consumer<TransactionRow> action) {
+        long[] count = {0};
+        try (Stream<TransactionRow> rows = transactionRepository.streamAllRows()) {
+            rows.forEach(row -> {
+                action.accept(row);
+                count[0]++;
+            });
+        } finally {
+            exported.increment(count[0]);
+        }
+    }
+
     @Override
     public Page<Transaction> getTransactionsPage(Pageable pageable) {
         return transactionRepository.findAll(pageable);
     }
 
     @Override
+    public Page<Transaction> getTransactionsPage(TransactionFilter filter, Pageable pageable) {
+        return filter.isEmpty()
+                ? transactionRepository.findAll(pageable)
+                : transactionRepository.findAll(TransactionSpecifications.matching(filter), pageable);
+    }
+
+    @Override
+    public List<Transaction> getTransactionsAfter(TransactionCursor cursor, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        return cursor == null
+                ? transactionRepository.findFirstByDateAndId(limit)
+                : transactionRepository.findAfterByDateAndId(cursor.date(), cursor.id(), limit);
+    }
+
+    @Override
+    public long countTransactions() {
+        return transactionRepository.count();
+    }
+
+    @Override
+    @Transactional
     public void deleteAll() {
-        transactionRepository.deleteAll();
+        clearAllTransactions();
     }
 
+    // Deletes [from, to] in one statement, then recomputes only the months the range touches
     @Override
-    public void importFromCSV(String filePath) throws IOException {
-        try{
-        List<Transaction> imported = fileService.loadTransactions(filePath);
-        transactionRepository.saveAll(imported);
-        } catch (CsvValidationException e) {
-            throw new IOException("Invalid CSV format: " + e.getMessage(), e);
+    @Transactional
+    public int deleteTransactionsBetween(LocalDate from, LocalDate to) {
+        int deleted = transactionRepository.deleteByDateBetween(from, to);
+        if (deleted > 0) {
+            summaryService.recompute(YearMonth.from(from), YearMonth.from(to));
+            categoryService.deleteUnused();
         }
+        return deleted;
+    }
+
+    // Not transactional: each chunk commits on its own in the batch writer
+    @Override
+    public void importFromCSV(String filePath) throws IOException {
+        parallelCsvParser.parse(Path.of(filePath), importChunkSize, batchWriter::write);
     }
 
     @Override
     public void exportToCSV(String filePath) throws IOException {
-        List<Transaction> all = transactionRepository.findAll();
+        List<TransactionRow> all = transactionRepository.findAllRows();
         fileService.saveTransactions(filePath, all);
+        exported.increment(all.size());
     }
 
     @Override
     public Map<String, Double> getMonthlySummary() {
-        List<Transaction> transactions = transactionRepository.findAll();
-        Map<String, Double> summary = new HashMap<>();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        return summaryCache.get(CacheConfig.ALL_MONTHS_SUMMARY, "net", this::computeMonthlySummary);
+    }
+
+    private Map<String, Double> computeMonthlySummary() {
+        Map<String, Double> summary = new LinkedHashMap<>();
 
-        for (Transaction tx : transactions) {
-            String monthKey = tx.getDate().format(formatter);
-            double amount = tx.getTransactionType() == TransactionType.INCOME
-                    ? tx.getAmount() : -tx.getAmount();
-            summary.put(monthKey, summary.getOrDefault(monthKey, 0.0) + amount);
+        for (MonthTotals totals : monthlyTotals(null).values()) {
+            summary.put(totals.month.toString(), Money.toDouble(totals.income - totals.expense));
         }
-        return summary;
+        return Collections.unmodifiableMap(summary); // shared by every caller once cached
     }
 
     @Override
     public String getMonthlySummary(int year, int month) {
-        List<Transaction> transactions = transactionRepository.findAll();
-        double income = 0.0;
-        double expense = 0.0;
-
-        for (Transaction tx : transactions) {
-            if (tx.getDate().getYear() == year && tx.getDate().getMonthValue() == month) {
-                if (tx.getTransactionType() == TransactionType.INCOME) {
-                    income += tx.getAmount();
-                } else {
-                    expense += tx.getAmount();
-                }
-            }
-        }
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return summaryCache.get(CacheConfig.MONTH_SUMMARY, yearMonth, () -> computeMonthlySummary(yearMonth));
+    }
 
-        double net = income - expense;
+    private String computeMonthlySummary(YearMonth yearMonth) {
+        int year = yearMonth.getYear();
+        int month = yearMonth.getMonthValue();
+        MonthTotals totals = monthlyTotals(yearMonth).getOrDefault(yearMonth, new MonthTotals(yearMonth));
+        long income = totals.income;
+        long expense = totals.expense;
 
-        return String.format("Summary for %d-%02d:\nIncome: ₹%.2f\nExpense: ₹%.2f\nNet: ₹%.2f",
-                year, month, income, expense, net);
+        long net = income - expense;
+
+        return String.format("Summary for %d-%02d:\nIncome: ₹%s\nExpense: ₹%s\nNet: ₹%s",
+                year, month, Money.toString(income), Money.toString(expense), Money.toString(net));
     }
 
     @Override
     public String getAllMonthsSummary() {
-        List<Transaction> transactions = transactionRepository.findAll();
-        Map<String, Double> incomeMap = new HashMap<>();
-        Map<String, Double> expenseMap = new HashMap<>();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-
-        for (Transaction tx : transactions) {
-            String monthKey = tx.getDate().format(formatter);
-            if (tx.getTransactionType() == TransactionType.INCOME) {
-                incomeMap.put(monthKey, incomeMap.getOrDefault(monthKey, 0.0) + tx.getAmount());
-            } else {
-                expenseMap.put(monthKey, expenseMap.getOrDefault(monthKey, 0.0) + tx.getAmount());
+        return summaryCache.get(CacheConfig.ALL_MONTHS_SUMMARY, "text", this::computeAllMonthsSummary);
+    }
+
+    private String computeAllMonthsSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (MonthTotals totals : monthlyTotals(null).values()) {
+            long income = totals.income;
+            long expense = totals.expense;
+            long net = income - expense;
+
+            summary.append("Summary for ").append(totals.month)
+                    .append(":\nIncome: ₹").append(Money.toString(income))
+                    .append("\nExpense: ₹").append(Money.toString(expense))
+                    .append("\nNet: ₹").append(Money.toString(net))
+                    .append("\n\n");
+        }
+
+        return summary.toString().trim();
+    }
+
+    @Override
+    public List<MonthlySummaryDTO> getMonthSummaries() {
+        return summaryCache.get(CacheConfig.ALL_MONTHS_SUMMARY, "records",
+                () -> monthlyTotals(null).values().stream().map(MonthTotals::toDTO).toList());
+    }
+
+    @Override
+    public MonthlySummaryDTO getMonthSummary(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return summaryCache.get(CacheConfig.MONTH_SUMMARY, CacheConfig.recordKey(yearMonth),
+                () -> monthlyTotals(yearMonth).getOrDefault(yearMonth, new MonthTotals(yearMonth)).toDTO());
+    }
+
+    // Reads the (month, category) rollup cells once into arrays indexed by period
+    // (year * 12 + month - 1). The MoM and YoY comparisons are then lookups at period - 1 and
+    // period - 12. The work depends on the number of months, not the number of transactions.
+    @Override
+    public List<CategoryBreakdownDTO> getCategoryBreakdown(YearMonth from, YearMonth to) {
+        return summaryCache.get(CacheConfig.ALL_MONTHS_SUMMARY, "breakdown:" + from + ":" + to,
+                () -> computeCategoryBreakdown(from, to));
+    }
+
+    private List<CategoryBreakdownDTO> computeCategoryBreakdown(YearMonth from, YearMonth to) {
+        List<MonthlySummary> rows = from != null && to != null
+                ? summaryService.getSummaries(from.minusMonths(12), to)
+                : summaryService.getSummaries();
+        if (rows.isEmpty() && (from == null || to == null)) {
+            return List.of();
+        }
+
+        int firstLoaded;
+        int lastLoaded;
+        if (from != null && to != null) {
+            firstLoaded = period(from.getYear(), from.getMonthValue()) - 12;
+            lastLoaded = period(to.getYear(), to.getMonthValue());
+        } else {
+            // Rows are ordered by year and month
+            MonthlySummary first = rows.get(0);
+            MonthlySummary last = rows.get(rows.size() - 1);
+            firstLoaded = period(first.getYear(), first.getMonth());
+            lastLoaded = period(last.getYear(), last.getMonth());
+        }
+        int firstShown = from != null ? period(from.getYear(), from.getMonthValue()) : firstLoaded;
+        int lastShown = to != null ? period(to.getYear(), to.getMonthValue()) : lastLoaded;
+        if (firstShown > lastShown) {
+            return List.of();
+        }
+        if (lastShown - firstShown >= MAX_BREAKDOWN_MONTHS) {
+            throw new IllegalArgumentException("A breakdown covers at most " + MAX_BREAKDOWN_MONTHS + " months");
+        }
+        // An open lower bound only knows months from the first recorded one onwards
+        int firstKnown = Math.min(firstLoaded, firstShown);
+
+        int categories = CATEGORY_TYPES.length;
+        int periods = Math.max(lastLoaded, lastShown) - firstKnown + 1;
+        long[] totals = new long[periods * categories];
+        long[] counts = new long[periods * categories];
+        for (MonthlySummary row : rows) {
+            int p = period(row.getYear(), row.getMonth()) - firstKnown;
+            if (p < 0 || p >= periods) {
+                continue;
             }
+            int cell = p * categories + row.getCategoryType().ordinal();
+            totals[cell] += row.getIncomeTotal() + row.getExpenseTotal();
+            counts[cell] += row.getIncomeCount() + row.getExpenseCount();
         }
 
-        var allMonths = new TreeSet<>(incomeMap.keySet());
-        allMonths.addAll(expenseMap.keySet());
+        List<CategoryBreakdownDTO> cells = new ArrayList<>((lastShown - firstShown + 1) * categories);
+        for (int period = firstShown; period <= lastShown; period++) {
+            int p = period - firstKnown;
+            for (CategoryType type : CATEGORY_TYPES) {
+                int cell = p * categories + type.ordinal();
+                long total = totals[cell];
+                Long previousMonth = p >= 1 ? totals[cell - categories] : null;
+                Long previousYear = p >= 12 ? totals[cell - 12 * categories] : null;
+                cells.add(new CategoryBreakdownDTO(period / 12, period % 12 + 1, type, type.getTransactionType(),
+                        CURRENCY, total, counts[cell],
+                        previousMonth, previousMonth == null ? null : total - previousMonth,
+                        previousYear, previousYear == null ? null : total - previousYear));
+            }
+        }
+        return cells;
+    }
 
-        StringBuilder summary = new StringBuilder();
-        for (String month : allMonths) {
-            double income = incomeMap.getOrDefault(month, 0.0);
-            double expense = expenseMap.getOrDefault(month, 0.0);
-            double net = income - expense;
+    @Override
+    public SummaryVersion getSummaryVersion() {
+        return summaryCache.version();
+    }
+
+    // Totals per month in month order, for one month or (null) all of them.
+    // Served by the column store when it is enabled, otherwise by the monthly rollup.
+    private Map<YearMonth, MonthTotals> monthlyTotals(YearMonth only) {
+        Map<YearMonth, MonthTotals> totals = new LinkedHashMap<>();
 
-            summary.append(String.format("Summary for %s:\nIncome: ₹%.2f\nExpense: ₹%.2f\nNet: ₹%.2f\n\n",
-                    month, income, expense, net));
+        if (analyticsService.isPresent()) {
+            AnalyticsQuery query = only == null
+                    ? AnalyticsQuery.byMonth(null, null)
+                    : AnalyticsQuery.byMonth(only.atDay(1), only.atEndOfMonth());
+            for (AnalyticsBucket bucket : analyticsService.get().aggregate(query)) {
+                MonthTotals month = new MonthTotals(YearMonth.parse(bucket.key()));
+                month.income = bucket.income();
+                month.expense = bucket.expense();
+                month.count = bucket.count();
+                totals.put(month.month, month);
+            }
+            return totals;
         }
 
-        return summary.toString().trim();
+        // Rows arrive ordered by year and month, so consecutive rows of a month are merged in place
+        List<MonthlySummary> rows = only == null
+                ? summaryService.getSummaries()
+                : summaryService.getSummaries(only.getYear(), only.getMonthValue());
+        for (MonthlySummary row : rows) {
+            MonthTotals month = totals.computeIfAbsent(YearMonth.of(row.getYear(), row.getMonth()), MonthTotals::new);
+            month.income += row.getIncomeTotal();
+            month.expense += row.getExpenseTotal();
+            month.count += row.getIncomeCount() + row.getExpenseCount();
+        }
+        return totals;
     }
 
     @Override
-public void loadTransactionsFromCSV(MultipartFile file) {
-    try {
-        File tempFile = File.createTempFile("upload", ".csv");
-        file.transferTo(tempFile);
-        List<Transaction> transactions = fileService.loadTransactions(tempFile.getAbsolutePath());
-        transactionRepository.saveAll(transactions);
-        tempFile.delete();
+    public void rebuildSummaries() {
+        summaryService.rebuild();
+    }
+
+    // Not transactional: each chunk commits on its own in the batch writer
+    @Override
+public CsvImportResult loadTransactionsFromCSV(MultipartFile file) {
+    try (InputStream input = file.getInputStream()) {
+        return fileService.streamTransactions(input, importChunkSize, batchWriter::write);
     } catch (Exception e) {
         throw new RuntimeException("Failed to load transactions from CSV: " + e.getMessage(), e);
     }
@@ -153,9 +517,10 @@ public void loadTransactionsFromCSV(MultipartFile file) {
 @Override
 public File generateCSVFromTransactions() {
     try {
-        List<Transaction> transactions = transactionRepository.findAll();
+        List<TransactionRow> transactions = transactionRepository.findAllRows();
         File file = File.createTempFile("transactions", ".csv");
         fileService.saveTransactions(file.getAbsolutePath(), transactions);
+        exported.increment(transactions.size());
         return file;
     } catch (Exception e) {
         throw new RuntimeException("Failed to generate CSV: " + e.getMessage(), e);
@@ -163,7 +528,32 @@ public File generateCSVFromTransactions() {
 }
 
 @Override
+@Transactional
 public void clearAllTransactions() {
-    transactionRepository.deleteAll();
+    // Lock before TRUNCATE, otherwise a writer holding the shared lock and this call wait on each other
+    categoryService.lockForCleanup();
+    transactionRepository.truncate();
+    summaryService.clear();
+    categoryService.deleteUnused();
 }
+
+    private static int period(int year, int month) {
+        return year * 12 + month - 1;
+    }
+
+    private static final class MonthTotals {
+        private final YearMonth month;
+        private long income;
+        private long expense;
+        private long count;
+
+        private MonthTotals(YearMonth month) {
+            this.month = month;
+        }
+
+        private MonthlySummaryDTO toDTO() {
+            return new MonthlySummaryDTO(month.getYear(), month.getMonthValue(), CURRENCY,
+                    income, expense, income - expense, count);
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.expense_tracker.service.impl;
+
+import java.time.YearMonth;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.expense_tracker.config.CacheConfig;
+import com.expense_tracker.event.TransactionsChangedEvent;
+
+/**
+ * Evicts cached summaries after the write that changed them commits. Only the touched months
+ * are evicted. A reader that started before the commit can still store old totals after this
+ * runs; {@link VersionedSummaryCache} stores them under a generation no later reader looks up.
+ */
+@Component
+public class SummaryCacheInvalidator {
+
+    private final VersionedSummaryCache summaryCache;
+
+    public SummaryCacheInvalidator(VersionedSummaryCache summaryCache) {
+        this.summaryCache = summaryCache;
+    }
+
+    // After the column store has taken the rows, before the summary version is bumped
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        summaryCache.clear(CacheConfig.ALL_MONTHS_SUMMARY);
+        if (event.allMonths()) {
+            summaryCache.clear(CacheConfig.MONTH_SUMMARY);
+        } else {
+            for (YearMonth month : event.months()) {
+                summaryCache.evict(CacheConfig.MONTH_SUMMARY, month);
+                summaryCache.evict(CacheConfig.MONTH_SUMMARY, CacheConfig.recordKey(month));
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.expense_tracker.service.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.expense_tracker.dto.SummaryVersion;
+import com.expense_tracker.event.TransactionsChangedEvent;
+
+/**
+ * Counts committed summary changes. The ETag pairs the count with an id of this process, so
+ * it cannot repeat across restarts. Bumped last among the change listeners, after
+ * {@link SummaryCacheInvalidator} has moved the touched keys to a new generation, so a reader
+ * that sees this version is only served entries computed after the commit.
+ */
+@Component
+public class SummaryVersionTracker {
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private volatile SummaryVersion current;
+    private long version;
+
+    public SummaryVersionTracker() {
+        this.current = versionOf(0);
+    }
+
+    public SummaryVersion current() {
+        return current;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onTransactionsChanged(TransactionsChangedEvent event) {
+        current = versionOf(++version);
+    }
+
+    // Last-Modified has second precision on the wire
+    private SummaryVersion versionOf(long number) {
+        return new SummaryVersion("\"" + instanceId + "-" + number + "\"", Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+}
@@ -0,0 +1,63 @@
+package com.expense_tracker.service.impl;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.repository.TransactionRepository;
+import com.expense_tracker.service.CategoryService;
+import com.expense_tracker.service.MonthlySummaryService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Persists one chunk of an import and then empties the persistence context,
+ * so memory stays bounded by the chunk size instead of the file size.
+ */
+@Component
+public class TransactionBatchWriter {
+
+    private final TransactionRepository transactionRepository;
+    private final MonthlySummaryService summaryService;
+    private final CategoryService categoryService;
+    private final EntityManager entityManager;
+    private final Counter imported;
+    private final DistributionSummary chunkSizes;
+
+    public TransactionBatchWriter(TransactionRepository transactionRepository,
+                                  MonthlySummaryService summaryService,
+                                  CategoryService categoryService,
+                                  EntityManager entityManager,
+                                  MeterRegistry meterRegistry) {
+        this.transactionRepository = transactionRepository;
+        this.summaryService = summaryService;
+        this.categoryService = categoryService;
+        this.entityManager = entityManager;
+        this.imported = Counter.builder("transactions.imported")
+                .description("Rows written by CSV imports, import jobs and batch requests")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.chunkSizes = DistributionSummary.builder("transactions.write.chunk")
+                .description("Rows per chunk written in one transaction")
+                .baseUnit("rows")
+                .register(meterRegistry);
+    }
+
+    // Joins the caller's transaction when there is one, otherwise commits the chunk on its own
+    @Transactional
+    public void write(List<Transaction> chunk) {
+        categoryService.lockReferenced(chunk);
+        transactionRepository.saveAll(chunk);
+        summaryService.record(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        imported.increment(chunk.size());
+        chunkSizes.record(chunk.size());
+    }
+}
@@ -0,0 +1,85 @@
+package com.expense_tracker.service.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.expense_tracker.dto.SummaryVersion;
+
+/**
+ * Summary cache that stores each entry under its key plus the key's generation, read when the
+ * computation started. {@link SummaryCacheInvalidator} bumps the generation of the keys a commit
+ * touched, so a body computed from data that commit replaced is stored under a generation no
+ * reader asks for any more, even when it is stored after the eviction ran. Lookups of an older
+ * generation are plain cache misses, and writes to one month leave other months' entries alone.
+ */
+@Component
+public class VersionedSummaryCache {
+
+    private final CacheManager cacheManager;
+    private final SummaryVersionTracker tracker;
+    // Bumped when a whole cache is cleared
+    private final Map<String, AtomicLong> epochs = new ConcurrentHashMap<>();
+    // Bumped when a single key is evicted; bounded by the evicted month keys
+    private final Map<Slot, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public VersionedSummaryCache(CacheManager cacheManager, SummaryVersionTracker tracker) {
+        this.cacheManager = cacheManager;
+        this.tracker = tracker;
+    }
+
+    public SummaryVersion version() {
+        return tracker.current();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, Object key, Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+        // Read before computing: a commit during the computation moves the key past it
+        Generation generation = generationOf(cacheName, key);
+        Cache.ValueWrapper cached = cache.get(generation);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value = loader.get();
+        cache.put(generation, value);
+        return value;
+    }
+
+    public void evict(String cacheName, Object key) {
+        Generation stale = generationOf(cacheName, key);
+        generations.computeIfAbsent(new Slot(cacheName, key), slot -> new AtomicLong()).incrementAndGet();
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(stale);
+        }
+    }
+
+    public void clear(String cacheName) {
+        epochs.computeIfAbsent(cacheName, name -> new AtomicLong()).incrementAndGet();
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private Generation generationOf(String cacheName, Object key) {
+        AtomicLong epoch = epochs.get(cacheName);
+        AtomicLong generation = generations.get(new Slot(cacheName, key));
+        return new Generation(key, epoch == null ? 0 : epoch.get(), generation == null ? 0 : generation.get());
+    }
+
+    private record Slot(String cacheName, Object key) {
+    }
+
+    private record Generation(Object key, long epoch, long generation) {
+    }
+}
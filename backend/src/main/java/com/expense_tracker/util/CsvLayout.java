@@ -0,0 +1,21 @@
+package com.expense_tracker.util;
+
+/**
+ * Column layouts produced and accepted by the CSV import/export code.
+ */
+public enum CsvLayout {
+    /** {@code amount,categoryType,date} as written by {@link TransactionFileService}. */
+    SHORT(3),
+    /** {@code Amount,TransactionType,CategoryType,Date} as written by {@link FileUtil}. */
+    FULL(4);
+
+    private final int fieldCount;
+
+    CsvLayout(int fieldCount) {
+        this.fieldCount = fieldCount;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+}
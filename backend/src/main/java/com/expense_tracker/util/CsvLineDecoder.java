@@ -0,0 +1,177 @@
+package com.expense_tracker.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+
+/**
+ * Decodes one CSV line of a known {@link CsvLayout} straight from its bytes.
+ * Amounts, dates and enum names are parsed in place without splitting the line,
+ * trimming substrings or upper-casing, so a valid row allocates nothing but its
+ * {@link LocalDate}. Instances are reusable but not thread-safe.
+ */
+public final class CsvLineDecoder {
+
+    private static final byte[][] CATEGORY_NAMES = names(CategoryType.values());
+    private static final byte[][] TRANSACTION_TYPE_NAMES = names(TransactionType.values());
+    private static final CategoryType[] CATEGORY_TYPES = CategoryType.values();
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+    private static final byte[] HEADER_PREFIX = "amount".getBytes(StandardCharsets.US_ASCII);
+
+    private final CsvLayout layout;
+    private final int[] fieldStart;
+    private final int[] fieldEnd;
+
+    private long amount;
+    private TransactionType transactionType;
+    private CategoryType categoryType;
+    private int year;
+    private int month;
+    private int day;
+
+    public CsvLineDecoder(CsvLayout layout) {
+        this.layout = layout;
+        this.fieldStart = new int[layout.getFieldCount()];
+        this.fieldEnd = new int[layout.getFieldCount()];
+    }
+
+    /**
+     * Decodes {@code line[from, to)}; throws {@link IllegalArgumentException} or
+     * {@link java.time.DateTimeException} when the row is malformed.
+     */
+    public void decode(byte[] line, int from, int to) {
+        split(line, from, to);
+        amount = Money.parse(line, fieldStart[0], fieldEnd[0]);
+        if (layout == CsvLayout.FULL) {
+            transactionType = TRANSACTION_TYPES[lookup(TRANSACTION_TYPE_NAMES, line, fieldStart[1], fieldEnd[1])];
+            categoryType = CATEGORY_TYPES[lookup(CATEGORY_NAMES, line, fieldStart[2], fieldEnd[2])];
+            parseDate(line, fieldStart[3], fieldEnd[3]);
+        } else {
+            categoryType = CATEGORY_TYPES[lookup(CATEGORY_NAMES, line, fieldStart[1], fieldEnd[1])];
+            transactionType = categoryType.getTransactionType();
+            parseDate(line, fieldStart[2], fieldEnd[2]);
+        }
+    }
+
+    // Minor units
+    public long amount() {
+        return amount;
+    }
+
+    public TransactionType transactionType() {
+        return transactionType;
+    }
+
+    public CategoryType categoryType() {
+        return categoryType;
+    }
+
+    public LocalDate date() {
+        return LocalDate.of(year, month, day);
+    }
+
+    /** True when the line has at least as many fields as the layout expects. */
+    public boolean hasAllFields(byte[] line, int from, int to) {
+        int fields = 1;
+        for (int i = from; i < to && fields < fieldStart.length; i++) {
+            if (line[i] == ',') {
+                fields++;
+            }
+        }
+        return fields >= fieldStart.length;
+    }
+
+    /** True for header rows, which start with "amount" in any case, optionally quoted. */
+    public static boolean isHeader(byte[] line, int from, int to) {
+        if (from < to && line[from] == '"') {
+            from++;
+        }
+        return regionMatchesIgnoreCase(line, from, Math.min(to, from + HEADER_PREFIX.length), HEADER_PREFIX);
+    }
+
+    // Records [start, end) of each expected field, trimmed of blanks and surrounding quotes
+    private void split(byte[] line, int from, int to) {
+        int field = 0;
+        int start = from;
+        for (int i = from; i <= to && field < fieldStart.length; i++) {
+            if (i == to || line[i] == ',') {
+                int s = start;
+                int e = i;
+                while (s < e && line[s] == ' ') {
+                    s++;
+                }
+                while (e > s && line[e - 1] == ' ') {
+                    e--;
+                }
+                if (e - s >= 2 && line[s] == '"' && line[e - 1] == '"') {
+                    s++;
+                    e--;
+                }
+                fieldStart[field] = s;
+                fieldEnd[field] = e;
+                field++;
+                start = i + 1;
+            }
+        }
+        if (field < fieldStart.length) {
+            throw new IllegalArgumentException("Expected " + fieldStart.length + " fields but found " + field);
+        }
+    }
+
+    private void parseDate(byte[] line, int from, int to) {
+        if (to - from != 10 || line[from + 4] != '-' || line[from + 7] != '-') {
+            throw new IllegalArgumentException("Expected yyyy-MM-dd date: " + text(line, from, to));
+        }
+        year = digits(line, from, from + 4);
+        month = digits(line, from + 5, from + 7);
+        day = digits(line, from + 8, from + 10);
+    }
+
+    private static int digits(byte[] line, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid digit in date: " + text(line, from, to));
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int lookup(byte[][] names, byte[] line, int from, int to) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].length == to - from && regionMatchesIgnoreCase(line, from, to, names[i])) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown value: " + text(line, from, to));
+    }
+
+    // ASCII-only case folding; expected is upper or lower case ASCII
+    private static boolean regionMatchesIgnoreCase(byte[] line, int from, int to, byte[] expected) {
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((line[from + i] | 0x20) != (expected[i] | 0x20)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String text(byte[] line, int from, int to) {
+        return new String(line, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] names(Enum<?>[] values) {
+        byte[][] names = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,102 @@
+package com.expense_tracker.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads an {@link InputStream} line by line into one reusable byte buffer, for use with
+ * {@link CsvLineDecoder}. Line endings and a leading UTF-8 BOM are not part of the line.
+ */
+public final class CsvLineReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    private byte[] line = new byte[256];
+    private int from;
+    private int length;
+    private long lineNumber;
+
+    public CsvLineReader(InputStream input) {
+        this(input, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CsvLineReader(InputStream input, int bufferSize) {
+        this.input = input;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /** Advances to the next line; returns false at end of input. */
+    public boolean next() throws IOException {
+        length = 0;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = Math.max(input.read(buffer, 0, buffer.length), 0);
+                position = 0;
+                if (limit == 0) {
+                    if (!read) {
+                        return false;
+                    }
+                    break;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position - start);
+            if (position < limit) {
+                position++; // consume '\n'
+                break;
+            }
+        }
+
+        lineNumber++;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        from = lineNumber == 1 && length >= 3
+                && line[0] == (byte) 0xEF && line[1] == (byte) 0xBB && line[2] == (byte) 0xBF ? 3 : 0;
+        return true;
+    }
+
+    public byte[] line() {
+        return line;
+    }
+
+    /** Start offset of the current line in {@link #line()}. */
+    public int from() {
+        return from;
+    }
+
+    /** End offset (exclusive) of the current line in {@link #line()}. */
+    public int to() {
+        return length;
+    }
+
+    /** 1-based number of the current line. */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private void append(int start, int count) {
+        if (length + count > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+        }
+        System.arraycopy(buffer, start, line, length, count);
+        length += count;
+    }
+}
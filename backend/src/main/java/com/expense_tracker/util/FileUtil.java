@@ -1,25 +1,29 @@
 package com.expense_tracker.util;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
-import java.util.TreeMap;
+import java.util.stream.Stream;
 
 import com.expense_tracker.model.TransactionType;
 import com.expense_tracker.model.entity.Transaction;
 
 public class FileUtil {
 
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     private FileUtil() {
         // Prevent instantiation
     }
@@ -58,81 +62,169 @@ public class FileUtil {
    
     public static List<Transaction> readTransactionsFromCSV(String filePath) throws IOException {
         List<Transaction> transactions = new ArrayList<>();
-        try (BufferedReader br = Files.newBufferedReader(Path.of(filePath))) {
-            String line;
-            while ((line = br.readLine()) != null) {
+        CsvLineDecoder decoder = new CsvLineDecoder(CsvLayout.FULL);
+        try (CsvLineReader reader = new CsvLineReader(Files.newInputStream(Path.of(filePath)))) {
+            while (reader.next()) {
+                byte[] line = reader.line();
+                int from = reader.from();
+                int to = reader.to();
                 // Skip empty lines or headers 
-                if (line.isBlank() || line.startsWith("amount") || line.startsWith("Amount") ) continue;
-
-                String[] parts = line.split(",");
-                if (parts.length < 4) continue; // invalid line
+                if (isBlank(line, from, to) || CsvLineDecoder.isHeader(line, from, to)) continue;
+                if (!decoder.hasAllFields(line, from, to)) continue; // invalid line
 
-                double amount = Double.parseDouble(parts[0].trim());
-                String transactionTypeStr = parts[1].trim();
-                String categoryTypeStr = parts[2].trim();
-                String dateStr = parts[3].trim();
-
-                var transactionType = com.expense_tracker.model.TransactionType.valueOf(transactionTypeStr.toUpperCase());
-                var categoryType = com.expense_tracker.model.CategoryType.valueOf(categoryTypeStr.toUpperCase());
+                decoder.decode(line, from, to);
+                var categoryType = decoder.categoryType();
                 var category = new com.expense_tracker.model.entity.Category(categoryType.name(),categoryType);
-                var date = java.time.LocalDate.parse(dateStr);
 
-                transactions.add(new Transaction(amount, transactionType, category, date));
+                transactions.add(new Transaction(decoder.amount(), decoder.transactionType(), category, decoder.date()));
             }
         }
         return transactions;
     }
 
-    public static void writeTransactionsToCSV(String filePath, List<Transaction> transactions) throws IOException {
-        List<String> lines = new ArrayList<>();
-        lines.add("Amount,TransactionType,CategoryType,Date"); // Header
-
-        for (Transaction tx : transactions) {
-            String line = String.format("%.2f,%s,%s,%s",
-                    tx.getAmount(),
-                    tx.getTransactionType().name(),
-                    tx.getCategory().getCategoryType().name(),
-                    tx.getDate().toString());
-            lines.add(line);
+    private static boolean isBlank(byte[] line, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(line[i])) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        // Add empty line for spacing
-        lines.add("");
-        lines.add("==== Summary for All Transactions ====");
-
-        // Group transactions by year-month
-        Map<String, List<Transaction>> grouped = new TreeMap<>(); // Sorted by date
-        for (Transaction tx : transactions) {
-            String key = String.format("%d-%02d", tx.getDate().getYear(), tx.getDate().getMonthValue());
-            grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(tx);
+    public static void writeTransactionsToCSV(String filePath, List<Transaction> transactions) throws IOException {
+        writeTransactionsToCSV(filePath, transactions.iterator());
+    }
+
+    public static void writeTransactionsToCSV(String filePath, Stream<Transaction> transactions) throws IOException {
+        writeTransactionsToCSV(filePath, transactions.iterator());
+    }
+
+    public static void writeTransactionsToCSV(String filePath, Iterator<Transaction> transactions) throws IOException {
+        Path path = Path.of(filePath);
+        if (path.getParent() != null && !Files.exists(path.getParent())) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            writeTransactionsToCSV(out, transactions);
         }
+    }
 
-        // Summary for each group
-        for (Map.Entry<String, List<Transaction>> entry : grouped.entrySet()) {
-            String month = entry.getKey();
-            List<Transaction> txList = entry.getValue();
-            double income = 0.0, expense = 0.0;
-
-            for (Transaction tx : txList) {
-                if (tx.getTransactionType() == TransactionType.INCOME) {
-                    income += tx.getAmount();
-                } else {
-                    expense += tx.getAmount();
-                }
+    /**
+     * Writes each transaction as soon as it is read and totals income/expense per month
+     * in the same pass, then appends the monthly summary footer. Only the per-month
+     * totals are kept in memory, so the source may be unbounded.
+     */
+    public static void writeTransactionsToCSV(OutputStream out, Iterator<Transaction> transactions) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        // Write UTF-8 BOM for Excel compatibility
+        writer.write('\uFEFF');
+        writer.write("Amount,TransactionType,CategoryType,Date"); // Header
+        writer.newLine();
+
+        MonthlyTotals totals = new MonthlyTotals();
+        StringBuilder row = new StringBuilder(64);
+        char[] chars = new char[64];
+        char[] amount = new char[Money.MAX_FORMATTED_LENGTH];
+        while (transactions.hasNext()) {
+            Transaction tx = transactions.next();
+            LocalDate date = tx.getDate();
+            boolean income = tx.getTransactionType() == TransactionType.INCOME;
+            totals.add(date.getYear() * 12 + date.getMonthValue() - 1, income, tx.getAmount());
+
+            row.setLength(0);
+            row.append(amount, 0, Money.format(tx.getAmount(), amount, 0));
+            row.append(',').append(tx.getTransactionType().name())
+               .append(',').append(tx.getCategory().getCategoryType().name())
+               .append(',');
+            appendDate(row, date);
+            if (row.length() > chars.length) {
+                chars = new char[row.length()];
             }
+            row.getChars(0, row.length(), chars, 0);
+            writer.write(chars, 0, row.length());
+            writer.newLine();
+        }
 
-            double net = income - expense;
-            lines.add("Summary for " + month + ":");
-            lines.add(String.format("Income: ₹%.2f", income));
-            lines.add(String.format("Expense: ₹%.2f", expense));
-            lines.add(String.format("Net: ₹%.2f", net));
-            lines.add(""); 
+        // Add empty line for spacing
+        writer.newLine();
+        writer.write("==== Summary for All Transactions ====");
+        writer.newLine();
+
+        // Summary for each month, in date order
+        for (int i = 0; i < totals.size; i++) {
+            int monthKey = totals.keys[i];
+            long income = totals.income[i];
+            long expense = totals.expense[i];
+            long net = income - expense;
+            writer.write(String.format("Summary for %d-%02d:", monthKey / 12, monthKey % 12 + 1));
+            writer.newLine();
+            writer.write("Income: ₹" + Money.toString(income));
+            writer.newLine();
+            writer.write("Expense: ₹" + Money.toString(expense));
+            writer.newLine();
+            writer.write("Net: ₹" + Money.toString(net));
+            writer.newLine();
+            writer.newLine();
         }
 
-        lines.add("===================================");
+        writer.write("===================================");
+        writer.newLine();
+        writer.flush();
+    }
 
-        writeAllLines(filePath, lines);
+    private static void appendDate(StringBuilder sb, LocalDate date) {
+        sb.append(date.getYear()).append('-');
+        if (date.getMonthValue() < 10) {
+            sb.append('0');
+        }
+        sb.append(date.getMonthValue()).append('-');
+        if (date.getDayOfMonth() < 10) {
+            sb.append('0');
+        }
+        sb.append(date.getDayOfMonth());
     }
 
+    /**
+     * Income/expense totals in minor units per month key (year * 12 + month - 1), kept sorted in
+     * parallel primitive arrays; the last month hit is checked first since exports
+     * are usually close to date order.
+     */
+    private static final class MonthlyTotals {
+        private int[] keys = new int[16];
+        private long[] income = new long[16];
+        private long[] expense = new long[16];
+        private int size;
+        private int last = -1;
+
+        void add(int monthKey, boolean isIncome, long amount) {
+            int index = last >= 0 && keys[last] == monthKey ? last : indexOf(monthKey);
+            if (isIncome) {
+                income[index] += amount;
+            } else {
+                expense[index] += amount;
+            }
+            last = index;
+        }
 
+        private int indexOf(int monthKey) {
+            int index = Arrays.binarySearch(keys, 0, size, monthKey);
+            if (index >= 0) {
+                return index;
+            }
+            index = -index - 1;
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                income = Arrays.copyOf(income, size * 2);
+                expense = Arrays.copyOf(expense, size * 2);
+            }
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            System.arraycopy(income, index, income, index + 1, size - index);
+            System.arraycopy(expense, index, expense, index + 1, size - index);
+            keys[index] = monthKey;
+            income[index] = 0;
+            expense[index] = 0;
+            size++;
+            return index;
+        }
+    }
 }
@@ -0,0 +1,152 @@
+package com.expense_tracker.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Amounts are held as {@code long} minor units (paise), two decimal places. Parsing rounds
+ * half-up to the nearest minor unit; formatting writes plain decimal digits straight into a
+ * caller's buffer without allocating.
+ */
+public final class Money {
+
+    public static final int SCALE = 2;
+    // Longest formatted amount: sign, 17 integer digits, point, 2 decimals
+    public static final int MAX_FORMATTED_LENGTH = 21;
+
+    private static final long MINOR_PER_MAJOR = 100;
+    // Integer digits accepted by the fast parser without risk of overflow
+    private static final int MAX_FAST_DIGITS = 16;
+    // Integer digits of the largest amount that fits a long in minor units
+    private static final int MAX_INTEGER_DIGITS = 17;
+
+    private Money() {
+    }
+
+    public static long fromDouble(double amount) {
+        return Math.round(amount * MINOR_PER_MAJOR);
+    }
+
+    public static double toDouble(long minor) {
+        return (double) minor / MINOR_PER_MAJOR;
+    }
+
+    public static BigDecimal toBigDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    /**
+     * Rounds half-up to minor units. Throws {@link NumberFormatException} when the amount does not
+     * fit a {@code long}; the magnitude is checked first, so an exponent such as {@code 1e999999999}
+     * is rejected without ever being expanded.
+     */
+    public static long fromBigDecimal(BigDecimal amount) {
+        if (amount.signum() == 0) {
+            return 0;
+        }
+        // Digits before the point; negative when the value starts after leading fraction zeros
+        long integerDigits = (long) amount.precision() - amount.scale();
+        if (integerDigits > MAX_INTEGER_DIGITS) {
+            throw new NumberFormatException("Amount out of range: " + amount.toString());
+        }
+        if (integerDigits < -SCALE) {
+            return 0; // below half a minor unit
+        }
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount out of range: " + amount.toString());
+        }
+    }
+
+    /**
+     * Parses a plain decimal such as {@code 1250}, {@code -3.5} or {@code 99.999} from
+     * {@code text[from, to)}. Exponents and very long values go through {@link BigDecimal};
+     * anything else, including amounts too large for a {@code long}, throws
+     * {@link NumberFormatException}.
+     */
+    public static long parse(byte[] text, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (text[i] == '-' || text[i] == '+')) {
+            negative = text[i] == '-';
+            i++;
+        }
+        long units = 0;
+        int integerDigits = 0;
+        int fractionDigits = 0;
+        boolean roundUp = false;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            byte b = text[i];
+            if (b >= '0' && b <= '9') {
+                if (!fraction) {
+                    units = units * 10 + (b - '0');
+                    integerDigits++;
+                } else if (fractionDigits < SCALE) {
+                    units = units * 10 + (b - '0');
+                    fractionDigits++;
+                } else if (fractionDigits == SCALE) {
+                    roundUp = b >= '5';
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (i < to || integerDigits + Math.min(fractionDigits, SCALE) == 0 || integerDigits > MAX_FAST_DIGITS) {
+            return fromBigDecimal(new BigDecimal(new String(text, from, to - from, StandardCharsets.US_ASCII)));
+        }
+        for (int d = Math.min(fractionDigits, SCALE); d < SCALE; d++) {
+            units *= 10;
+        }
+        if (roundUp) {
+            units++;
+        }
+        return negative ? -units : units;
+    }
+
+    public static long parse(CharSequence text) {
+        byte[] bytes = new byte[text.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            char c = text.charAt(i);
+            bytes[i] = c < 0x80 ? (byte) c : (byte) '?';
+        }
+        return parse(bytes, 0, bytes.length);
+    }
+
+    /** Writes {@code minor} as e.g. {@code -12.05} into {@code out} at {@code offset}; returns the end offset. */
+    public static int format(long minor, char[] out, int offset) {
+        int pos = offset;
+        long units = minor;
+        if (units < 0) {
+            out[pos++] = '-';
+            units = -units; // Long.MIN_VALUE is outside any amount the parser produces
+        }
+        long major = units / MINOR_PER_MAJOR;
+        int cents = (int) (units % MINOR_PER_MAJOR);
+
+        int digits = 1;
+        for (long rest = major / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            out[i] = (char) ('0' + major % 10);
+            major /= 10;
+        }
+        pos = end;
+        out[pos++] = '.';
+        out[pos++] = (char) ('0' + cents / 10);
+        out[pos++] = (char) ('0' + cents % 10);
+        return pos;
+    }
+
+    public static String toString(long minor) {
+        char[] buffer = new char[MAX_FORMATTED_LENGTH];
+        return new String(buffer, 0, format(minor, buffer, 0));
+    }
+}
@@ -0,0 +1,46 @@
+package com.expense_tracker.util;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * JSON binding for {@code long} minor-unit amounts. They appear on the wire as plain decimal
+ * numbers in major units ({@code 1250.50}), as before, and are never converted through
+ * {@code double}.
+ */
+public final class MoneyJson {
+
+    private MoneyJson() {
+    }
+
+    public static final class Serializer extends JsonSerializer<Long> {
+        @Override
+        public void serialize(Long minor, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            char[] buffer = new char[Money.MAX_FORMATTED_LENGTH];
+            gen.writeNumber(buffer, 0, Money.format(minor, buffer, 0));
+        }
+    }
+
+    public static final class Deserializer extends JsonDeserializer<Long> {
+        @Override
+        public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                    && token != JsonToken.VALUE_STRING) {
+                return (Long) context.handleUnexpectedToken(Long.class, parser);
+            }
+            try {
+                return Money.parse(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return (Long) context.handleWeirdStringValue(Long.class, parser.getText(), "not a valid amount");
+            }
+        }
+    }
+}
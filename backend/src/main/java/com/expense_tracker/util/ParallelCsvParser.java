@@ -0,0 +1,219 @@
+package com.expense_tracker.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.expense_tracker.dto.CsvImportResult;
+import com.expense_tracker.dto.CsvRowError;
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.entity.Category;
+import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.service.CategoryService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Parses large {@code amount,categoryType,date} files on several cores. The file is
+ * memory-mapped in newline-aligned segments which are parsed on a fork-join pool;
+ * results are handed to the sink in file order, in chunks of the requested size,
+ * and rejected rows keep their original line numbers.
+ */
+@Service
+public class ParallelCsvParser {
+
+    // Parsed segments allowed to wait for the sink, per worker thread
+    private static final int SEGMENTS_IN_FLIGHT_PER_THREAD = 2;
+    private static final int ALIGN_BUFFER_SIZE = 4096;
+
+    private final CategoryService categoryService;
+    private final ForkJoinPool pool;
+    private final int splitSize;
+
+    public ParallelCsvParser(CategoryService categoryService,
+                             @Value("${app.import.parallelism:0}") int parallelism,
+                             @Value("${app.import.split-size:1048576}") int splitSize) {
+        this.categoryService = categoryService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.splitSize = splitSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public CsvImportResult parse(Path file, int chunkSize, Consumer<List<Transaction>> sink) throws IOException {
+        return parse(file, chunkSize, sink, (rejected, errors) -> { });
+    }
+
+    /**
+     * Like {@link #parse(Path, int, Consumer)}, additionally reporting rejected rows to the
+     * listener as each segment is consumed, so callers can publish progress while parsing.
+     */
+    public CsvImportResult parse(Path file, int chunkSize, Consumer<List<Transaction>> sink,
+                                 RejectionListener listener) throws IOException {
+        long start = System.nanoTime();
+        long imported = 0;
+        long rejected = 0;
+        long lineOffset = 0;
+        List<CsvRowError> errors = new ArrayList<>();
+        List<Transaction> chunk = new ArrayList<>(chunkSize);
+        Deque<CompletableFuture<Segment>> inFlight = new ArrayDeque<>();
+        int maxInFlight = pool.getParallelism() * SEGMENTS_IN_FLIGHT_PER_THREAD;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+
+            while (position < size || !inFlight.isEmpty()) {
+                while (position < size && inFlight.size() < maxInFlight) {
+                    long end = alignToLineEnd(channel, Math.min(position + splitSize, size), size);
+                    ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+                    boolean firstSegment = position == 0;
+                    inFlight.add(CompletableFuture.supplyAsync(() -> parseSegment(region, firstSegment), pool));
+                    position = end;
+                }
+
+                Segment segment = await(inFlight.poll());
+                rejected += segment.rejected();
+                List<CsvRowError> segmentErrors = new ArrayList<>(segment.errors().size());
+                for (CsvRowError error : segment.errors()) {
+                    segmentErrors.add(new CsvRowError(lineOffset + error.line(), error.message()));
+                    if (errors.size() < CsvImportResult.MAX_REPORTED_ERRORS) {
+                        errors.add(segmentErrors.getLast());
+                    }
+                }
+                lineOffset += segment.lineCount();
+                if (segment.rejected() > 0) {
+                    listener.onRejected(segment.rejected(), segmentErrors);
+                }
+
+                for (Transaction tx : segment.rows()) {
+                    chunk.add(tx);
+                    if (chunk.size() == chunkSize) {
+                        sink.accept(chunk);
+                        imported += chunk.size();
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(false));
+        }
+
+        if (!chunk.isEmpty()) {
+            sink.accept(chunk);
+            imported += chunk.size();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new CsvImportResult(imported, rejected, elapsedMillis, errors);
+    }
+
+    // Line numbers in the returned segment are relative to the segment
+    private Segment parseSegment(ByteBuffer region, boolean firstSegment) {
+        List<Transaction> rows = new ArrayList<>();
+        List<CsvRowError> errors = new ArrayList<>();
+        int rejected = 0;
+        int lineCount = 0;
+        byte[] line = new byte[256];
+        CsvLineDecoder decoder = new CsvLineDecoder(CsvLayout.SHORT);
+
+        int limit = region.limit();
+        int pos = firstSegment && hasBom(region) ? 3 : 0;
+        while (pos < limit) {
+            int end = pos;
+            while (end < limit && region.get(end) != '\n') {
+                end++;
+            }
+            lineCount++;
+            int lineEnd = end > pos && region.get(end - 1) == '\r' ? end - 1 : end;
+
+            // The first line of the file is the header
+            if (lineEnd > pos && !(firstSegment && lineCount == 1)) {
+                int length = lineEnd - pos;
+                if (length > line.length) {
+                    line = new byte[length];
+                }
+                region.get(pos, line, 0, length);
+                try {
+                    decoder.decode(line, 0, length);
+                    rows.add(toTransaction(decoder));
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    rejected++;
+                    if (errors.size() < CsvImportResult.MAX_REPORTED_ERRORS) {
+                        errors.add(new CsvRowError(lineCount, e.toString()));
+                    }
+                }
+            }
+            pos = end + 1;
+        }
+        return new Segment(rows, errors, rejected, lineCount);
+    }
+
+    private Transaction toTransaction(CsvLineDecoder decoder) {
+        CategoryType categoryType = decoder.categoryType();
+        Category category = categoryService.resolve(categoryType.name(), categoryType);
+        return new Transaction(decoder.amount(), decoder.transactionType(), category, decoder.date());
+    }
+
+    private static boolean hasBom(ByteBuffer region) {
+        return region.limit() >= 3
+                && region.get(0) == (byte) 0xEF && region.get(1) == (byte) 0xBB && region.get(2) == (byte) 0xBF;
+    }
+
+    // Returns the offset just past the first newline at or after position, or size
+    private static long alignToLineEnd(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(ALIGN_BUFFER_SIZE);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static Segment await(CompletableFuture<Segment> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface RejectionListener {
+        // errors carry file line numbers and are capped per segment
+        void onRejected(long rejected, List<CsvRowError> errors);
+    }
+
+    private record Segment(List<Transaction> rows, List<CsvRowError> errors, int rejected, int lineCount) {
+    }
+}
@@ -3,16 +3,24 @@ package com.expense_tracker.util;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 
+import com.expense_tracker.dto.CsvImportResult;
+import com.expense_tracker.dto.CsvRowError;
 import com.expense_tracker.model.CategoryType;
 import com.expense_tracker.model.TransactionType;
 import com.expense_tracker.model.entity.Category;
 import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.repository.projection.TransactionRow;
+import com.expense_tracker.service.CategoryService;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvValidationException;
@@ -20,6 +28,14 @@ import com.opencsv.exceptions.CsvValidationException;
 @Service
 public class TransactionFileService {
 
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final CategoryService categoryService;
+
+    public TransactionFileService(CategoryService categoryService) {
+        this.categoryService = categoryService;
+    }
+
     public List<Transaction> loadTransactions(String filePath) throws IOException, CsvValidationException  {
         List<Transaction> transactions = new ArrayList<>();
 
@@ -27,29 +43,81 @@ public class TransactionFileService {
             String[] line;
             reader.readNext(); // skip header
             while ((line = reader.readNext()) != null) {
-                double amount = Double.parseDouble(line[0]);
-                CategoryType categoryType = CategoryType.valueOf(line[1]);
-                TransactionType type = categoryType.getTransactionType();
-                LocalDate date = LocalDate.parse(line[2]);
-
-                Category category = new Category(categoryType.name(), categoryType);
-                Transaction tx = new Transaction(amount, type, category, date);
-                transactions.add(tx);
+                transactions.add(toTransaction(line));
             }
         }
 
         return transactions;
     }
 
-    public void saveTransactions(String filePath, List<Transaction> transactions) throws IOException {
+    /**
+     * Parses rows straight from {@code input} and hands them to {@code chunkConsumer}
+     * in lists of at most {@code chunkSize}, so only one chunk is ever held in memory.
+     * Rows that cannot be parsed are counted as rejected instead of failing the import.
+     */
+    public CsvImportResult streamTransactions(InputStream input, int chunkSize,
+                                              Consumer<List<Transaction>> chunkConsumer) throws IOException {
+        long start = System.nanoTime();
+        long imported = 0;
+        long rejected = 0;
+        List<CsvRowError> errors = new ArrayList<>();
+        List<Transaction> chunk = new ArrayList<>(chunkSize);
+
+        CsvLineDecoder decoder = new CsvLineDecoder(CsvLayout.SHORT);
+        try (CsvLineReader reader = new CsvLineReader(input, READ_BUFFER_SIZE)) {
+            reader.next(); // skip header
+            while (reader.next()) {
+                if (reader.from() == reader.to()) {
+                    continue;
+                }
+                try {
+                    decoder.decode(reader.line(), reader.from(), reader.to());
+                    CategoryType categoryType = decoder.categoryType();
+                    chunk.add(new Transaction(decoder.amount(), decoder.transactionType(),
+                            categoryService.resolve(categoryType.name(), categoryType), decoder.date()));
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    rejected++;
+                    if (errors.size() < CsvImportResult.MAX_REPORTED_ERRORS) {
+                        errors.add(new CsvRowError(reader.lineNumber(), e.toString()));
+                    }
+                    continue;
+                }
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    imported += chunk.size();
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+            imported += chunk.size();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new CsvImportResult(imported, rejected, elapsedMillis, errors);
+    }
+
+    private Transaction toTransaction(String[] line) {
+        long amount = Money.parse(line[0].trim());
+        CategoryType categoryType = CategoryType.valueOf(line[1]);
+        TransactionType type = categoryType.getTransactionType();
+        LocalDate date = LocalDate.parse(line[2]);
+
+        Category category = categoryService.resolve(categoryType.name(), categoryType);
+        return new Transaction(amount, type, category, date);
+    }
+
+    public void saveTransactions(String filePath, List<TransactionRow> transactions) throws IOException {
         try (CSVWriter writer = new CSVWriter(new FileWriter(filePath))) {
       
             writer.writeNext(new String[]{"amount", "categoryType", "date"});
-            for (Transaction tx : transactions) {
+            for (TransactionRow tx : transactions) {
                  writer.writeNext(new String[]{
-                 String.valueOf(tx.getAmount()),
-                 tx.getCategory().getCategoryType().name(),
-                 tx.getDate().toString()
+                 Money.toString(tx.amount()),
+                 tx.categoryType().name(),
+                 tx.date().toString()
                 });
             }
         }
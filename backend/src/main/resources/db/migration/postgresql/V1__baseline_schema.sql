@@ -0,0 +1,28 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update) with IDENTITY keys.
+-- Existing databases are baselined at version 0, so this is a no-op for them.
+
+CREATE TABLE IF NOT EXISTS categories (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category_type VARCHAR(255) NOT NULL,
+    name          VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS transactions (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    amount           FLOAT(53)    NOT NULL,
+    transaction_type VARCHAR(255) NOT NULL,
+    category_id      BIGINT       NOT NULL REFERENCES categories (id),
+    date             DATE         NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS monthly_summary (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    summary_year  INTEGER      NOT NULL,
+    summary_month INTEGER      NOT NULL,
+    category_type VARCHAR(255) NOT NULL,
+    income_total  FLOAT(53)    NOT NULL,
+    expense_total FLOAT(53)    NOT NULL,
+    income_count  BIGINT       NOT NULL,
+    expense_count BIGINT       NOT NULL,
+    CONSTRAINT uk_monthly_summary_period_category UNIQUE (summary_year, summary_month, category_type)
+);
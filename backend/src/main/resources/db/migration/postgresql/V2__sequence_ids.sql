@@ -0,0 +1,18 @@
+-- Hibernate cannot batch inserts into IDENTITY columns, so ids now come from
+-- pooled sequences (INCREMENT BY must match allocationSize = 50 on the entities).
+-- Existing rows keep their ids; each sequence restarts above the current maximum.
+
+ALTER TABLE categories ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE categories ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS categories_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('categories_seq', (SELECT COALESCE(MAX(id), 0) FROM categories) + 50, false);
+
+ALTER TABLE transactions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE transactions ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS transactions_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('transactions_seq', (SELECT COALESCE(MAX(id), 0) FROM transactions) + 50, false);
+
+ALTER TABLE monthly_summary ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE monthly_summary ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS monthly_summary_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('monthly_summary_seq', (SELECT COALESCE(MAX(id), 0) FROM monthly_summary) + 50, false);
@@ -0,0 +1,24 @@
+-- One-off compaction: every transaction used to insert its own category row.
+-- Repoint transactions at the lowest id of each (name, category_type) group,
+-- drop the duplicates, then enforce the key the application now resolves by.
+
+UPDATE transactions t
+SET category_id = k.keep_id
+FROM (SELECT id, MIN(id) OVER (PARTITION BY name, category_type) AS keep_id
+      FROM categories) k
+WHERE t.category_id = k.id
+  AND k.id <> k.keep_id;
+
+-- Every deleted category is checked against transactions.category_id; without an index
+-- each check is a full scan. Same definition as V6, which then finds it already present.
+CREATE INDEX IF NOT EXISTS idx_transactions_category_date ON transactions (category_id, date);
+
+-- Joined on id rather than on the key, so large duplicate groups stay linear
+DELETE FROM categories c
+USING (SELECT id, MIN(id) OVER (PARTITION BY name, category_type) AS keep_id
+       FROM categories) k
+WHERE c.id = k.id
+  AND k.id <> k.keep_id;
+
+ALTER TABLE categories
+    ADD CONSTRAINT uk_categories_name_type UNIQUE (name, category_type);
@@ -0,0 +1,2 @@
+-- Supports keyset pagination ordered by (date, id) and date-range predicates.
+CREATE INDEX IF NOT EXISTS idx_transactions_date_id ON transactions (date, id);
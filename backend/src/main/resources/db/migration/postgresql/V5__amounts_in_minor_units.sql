@@ -0,0 +1,35 @@
+-- Amounts move from FLOAT(53) rupees to BIGINT paise. Each amount is rounded once, half away
+-- from zero; the rollup is then recomputed from the converted rows instead of rounding its
+-- float totals, so it carries none of their accumulated drift.
+
+ALTER TABLE transactions ADD COLUMN amount_minor BIGINT;
+UPDATE transactions SET amount_minor = ROUND(amount::NUMERIC * 100)::BIGINT;
+ALTER TABLE transactions ALTER COLUMN amount_minor SET NOT NULL;
+ALTER TABLE transactions DROP COLUMN amount;
+
+ALTER TABLE monthly_summary
+    ADD COLUMN income_total_minor  BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN expense_total_minor BIGINT NOT NULL DEFAULT 0;
+
+UPDATE monthly_summary s
+SET income_total_minor  = t.income,
+    expense_total_minor = t.expense
+FROM (
+    SELECT EXTRACT(YEAR FROM tx.date)::INTEGER  AS summary_year,
+           EXTRACT(MONTH FROM tx.date)::INTEGER AS summary_month,
+           c.category_type,
+           SUM(CASE WHEN tx.transaction_type = 'INCOME' THEN tx.amount_minor ELSE 0 END)  AS income,
+           SUM(CASE WHEN tx.transaction_type = 'EXPENSE' THEN tx.amount_minor ELSE 0 END) AS expense
+    FROM transactions tx
+    JOIN categories c ON c.id = tx.category_id
+    GROUP BY 1, 2, 3
+) t
+WHERE s.summary_year = t.summary_year
+  AND s.summary_month = t.summary_month
+  AND s.category_type = t.category_type;
+
+ALTER TABLE monthly_summary
+    ALTER COLUMN income_total_minor DROP DEFAULT,
+    ALTER COLUMN expense_total_minor DROP DEFAULT,
+    DROP COLUMN income_total,
+    DROP COLUMN expense_total;
@@ -0,0 +1,4 @@
+-- Supports category filters on the transaction list (alone or with a date range) and the
+-- category_id lookups behind orphan-category cleanup. Date-only predicates are already
+-- served by idx_transactions_date_id.
+CREATE INDEX IF NOT EXISTS idx_transactions_category_date ON transactions (category_id, date);
@@ -0,0 +1,95 @@
+package com.expense_tracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.TransactionType;
+
+class CsvLineDecoderTest {
+
+    private final CsvLineDecoder shortLayout = new CsvLineDecoder(CsvLayout.SHORT);
+    private final CsvLineDecoder fullLayout = new CsvLineDecoder(CsvLayout.FULL);
+
+    @Test
+    void decodesShortLayout() {
+        decode(shortLayout, "-12.345,food,2024-02-29");
+        assertThat(shortLayout.amount()).isEqualTo(-1235);
+        assertThat(shortLayout.categoryType()).isEqualTo(CategoryType.FOOD);
+        assertThat(shortLayout.transactionType()).isEqualTo(TransactionType.EXPENSE);
+        assertThat(shortLayout.date()).isEqualTo(LocalDate.of(2024, 2, 29));
+    }
+
+    @Test
+    void decodesFullLayoutWithQuotesAndBlanks() {
+        decode(fullLayout, " \"1250\" , Income ,\"SALARY\", 2024-01-31 ");
+        assertThat(fullLayout.amount()).isEqualTo(125_000);
+        assertThat(fullLayout.transactionType()).isEqualTo(TransactionType.INCOME);
+        assertThat(fullLayout.categoryType()).isEqualTo(CategoryType.SALARY);
+        assertThat(fullLayout.date()).isEqualTo(LocalDate.of(2024, 1, 31));
+    }
+
+    @Test
+    void decodesOnlyTheGivenRange() {
+        byte[] line = "xx10.00,RENT,2024-03-01\r\n".getBytes(StandardCharsets.US_ASCII);
+        shortLayout.decode(line, 2, line.length - 2);
+        assertThat(shortLayout.amount()).isEqualTo(1000);
+        assertThat(shortLayout.date()).isEqualTo(LocalDate.of(2024, 3, 1));
+    }
+
+    @Test
+    void trailingCarriageReturnIsNotPartOfTheDate() {
+        assertThatThrownBy(() -> decode(shortLayout, "10.00,RENT,2024-03-01\r"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMalformedRows() {
+        assertThatThrownBy(() -> decode(shortLayout, "10.00,FOOD")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> decode(shortLayout, "10.00,SNACKS,2024-01-01"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> decode(shortLayout, "ten,FOOD,2024-01-01")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> decode(shortLayout, "10.00,FOOD,2024/01/01"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> decode(shortLayout, "10.00,FOOD,2024-0a-01"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void invalidCalendarDatesFailWhenRead() {
+        decode(shortLayout, "10.00,FOOD,2023-02-29");
+        assertThatThrownBy(shortLayout::date).isInstanceOf(DateTimeException.class);
+    }
+
+    @Test
+    void recognisesHeaders() {
+        assertThat(isHeader("amount,categoryType,date")).isTrue();
+        assertThat(isHeader("\"Amount\",\"TransactionType\"")).isTrue();
+        assertThat(isHeader("10.00,FOOD,2024-01-01")).isFalse();
+        assertThat(isHeader("")).isFalse();
+    }
+
+    @Test
+    void countsFields() {
+        byte[] line = "1,2".getBytes(StandardCharsets.US_ASCII);
+        assertThat(shortLayout.hasAllFields(line, 0, line.length)).isFalse();
+        line = "1,2,3,4".getBytes(StandardCharsets.US_ASCII);
+        assertThat(shortLayout.hasAllFields(line, 0, line.length)).isTrue();
+    }
+
+    private static void decode(CsvLineDecoder decoder, String text) {
+        byte[] line = text.getBytes(StandardCharsets.UTF_8);
+        decoder.decode(line, 0, line.length);
+    }
+
+    private static boolean isHeader(String text) {
+        byte[] line = text.getBytes(StandardCharsets.UTF_8);
+        return CsvLineDecoder.isHeader(line, 0, line.length);
+    }
+}
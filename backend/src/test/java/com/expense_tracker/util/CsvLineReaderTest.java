@@ -0,0 +1,57 @@
+package com.expense_tracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvLineReaderTest {
+
+    @Test
+    void stripsBomFromFirstLineOnly() throws IOException {
+        byte[] input = concat(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}, "amount\n\uFEFFx\n");
+        assertThat(lines(input, 64)).containsExactly("amount", "\uFEFFx");
+    }
+
+    @Test
+    void dropsCarriageReturnsBeforeNewlines() throws IOException {
+        byte[] input = "a\r\nb\r\n\r\nc\rd\r".getBytes(StandardCharsets.UTF_8);
+        assertThat(lines(input, 64)).containsExactly("a", "b", "", "c\rd");
+    }
+
+    @Test
+    void joinsLinesSplitAcrossBufferRefills() throws IOException {
+        byte[] input = "10.00,FOOD,2024-01-01\r\n20.00,TRAVEL,2024-01-02".getBytes(StandardCharsets.UTF_8);
+        assertThat(lines(input, 4)).containsExactly("10.00,FOOD,2024-01-01", "20.00,TRAVEL,2024-01-02");
+    }
+
+    @Test
+    void crlfSplitBetweenRefillsIsStillStripped() throws IOException {
+        // "ab\r" fills the first buffer, "\n" starts the second
+        byte[] input = "ab\r\ncd".getBytes(StandardCharsets.UTF_8);
+        assertThat(lines(input, 3)).containsExactly("ab", "cd");
+    }
+
+    private static List<String> lines(byte[] input, int bufferSize) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (CsvLineReader reader = new CsvLineReader(new ByteArrayInputStream(input), bufferSize)) {
+            while (reader.next()) {
+                lines.add(new String(reader.line(), reader.from(), reader.to() - reader.from(), StandardCharsets.UTF_8));
+            }
+        }
+        return lines;
+    }
+
+    private static byte[] concat(byte[] prefix, String text) {
+        byte[] rest = text.getBytes(StandardCharsets.UTF_8);
+        byte[] all = new byte[prefix.length + rest.length];
+        System.arraycopy(prefix, 0, all, 0, prefix.length);
+        System.arraycopy(rest, 0, all, prefix.length, rest.length);
+        return all;
+    }
+}
@@ -0,0 +1,94 @@
+package com.expense_tracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @Test
+    void parsesPlainDecimals() {
+        assertThat(Money.parse("1250")).isEqualTo(125_000);
+        assertThat(Money.parse("-3.5")).isEqualTo(-350);
+        assertThat(Money.parse("+0.07")).isEqualTo(7);
+        assertThat(Money.parse(".5")).isEqualTo(50);
+    }
+
+    @Test
+    void roundsHalfUpAwayFromZero() {
+        assertThat(Money.parse("99.995")).isEqualTo(10_000);
+        assertThat(Money.parse("1.0049")).isEqualTo(100);
+        assertThat(Money.parse("-1.005")).isEqualTo(-101);
+        assertThat(Money.parse("-1.004")).isEqualTo(-100);
+        assertThat(Money.parse("-0.005")).isEqualTo(-1);
+    }
+
+    @Test
+    void fastPathMatchesBigDecimal() {
+        for (String value : new String[]{"-1.005", "-0.015", "2.345", "-2.344", "0.004", "-0.994"}) {
+            assertThat(Money.parse(value)).as(value).isEqualTo(Money.fromBigDecimal(new BigDecimal(value)));
+        }
+    }
+
+    @Test
+    void exponentsAndLongValuesFallBackToBigDecimal() {
+        assertThat(Money.parse("1e3")).isEqualTo(100_000);
+        assertThat(Money.parse("-2.5E-1")).isEqualTo(-25);
+        assertThat(Money.parse("12345678901234567")).isEqualTo(1_234_567_890_123_456_700L);
+    }
+
+    @Test
+    void rejectsAmountsOutsideLongMinorUnitsAsNumberFormatErrors() {
+        for (String value : new String[]{"1e30", "123456789012345678901", "99999999999999999.99", "-1e17"}) {
+            assertThatThrownBy(() -> Money.parse(value)).as(value).isInstanceOf(NumberFormatException.class);
+        }
+        assertThat(Money.parse("92233720368547758.07")).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void hugeExponentsAreRejectedWithoutExpansion() {
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThatThrownBy(() -> Money.parse("1e999999999")).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> Money.fromBigDecimal(new BigDecimal("-9e999999999")))
+                    .isInstanceOf(NumberFormatException.class);
+            assertThat(Money.parse("1e-999999999")).isZero();
+            assertThat(Money.parse("0e999999999")).isZero();
+        });
+    }
+
+    @Test
+    void tinyAmountsRoundHalfUp() {
+        assertThat(Money.parse("0.005")).isEqualTo(1);
+        assertThat(Money.parse("-5e-3")).isEqualTo(-1);
+        assertThat(Money.parse("4.9e-3")).isZero();
+        assertThat(Money.parse("9e-4")).isZero();
+    }
+
+    @Test
+    void rejectsNonNumbers() {
+        for (String value : new String[]{"", "-", ".", "12a", "1.2.3", "₹10"}) {
+            assertThatThrownBy(() -> Money.parse(value)).as(value).isInstanceOf(NumberFormatException.class);
+        }
+    }
+
+    @Test
+    void formatsTwoDecimals() {
+        assertThat(Money.toString(0)).isEqualTo("0.00");
+        assertThat(Money.toString(125_005)).isEqualTo("1250.05");
+        assertThat(Money.toString(-5)).isEqualTo("-0.05");
+        assertThat(Money.toString(-1_234_567)).isEqualTo("-12345.67");
+        assertThat(Money.toString(Long.MAX_VALUE)).hasSizeLessThanOrEqualTo(Money.MAX_FORMATTED_LENGTH);
+    }
+
+    @Test
+    void formatWritesAtOffset() {
+        char[] out = new char[Money.MAX_FORMATTED_LENGTH + 2];
+        int end = Money.format(-5, out, 2);
+        assertThat(new String(out, 2, end - 2)).isEqualTo("-0.05");
+    }
+}
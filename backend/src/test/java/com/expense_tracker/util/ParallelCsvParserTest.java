@@ -0,0 +1,121 @@
+package com.expense_tracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.expense_tracker.dto.CsvImportResult;
+import com.expense_tracker.dto.CsvRowError;
+import com.expense_tracker.model.CategoryType;
+import com.expense_tracker.model.entity.Category;
+import com.expense_tracker.model.entity.Transaction;
+import com.expense_tracker.service.CategoryService;
+
+class ParallelCsvParserTest {
+
+    // Far shorter than one line, so nearly every segment boundary falls mid-line
+    private static final int SPLIT_SIZE = 7;
+
+    @TempDir
+    Path dir;
+
+    private final ParallelCsvParser parser = new ParallelCsvParser(new InMemoryCategories(), 3, SPLIT_SIZE);
+
+    @AfterEach
+    void tearDown() {
+        parser.shutdown();
+    }
+
+    @Test
+    void segmentsSplitMidLineStillYieldWholeRowsInFileOrder() throws IOException {
+        StringBuilder csv = new StringBuilder("amount,categoryType,date\n");
+        for (int i = 1; i <= 200; i++) {
+            csv.append(i).append(".25,").append(i % 2 == 0 ? "FOOD" : "SALARY").append(",2024-01-")
+                    .append(String.format("%02d", i % 28 + 1)).append('\n');
+        }
+        List<Transaction> rows = new ArrayList<>();
+
+        CsvImportResult result = parser.parse(write(csv.toString()), 16, rows::addAll);
+
+        assertThat(result.imported()).isEqualTo(200);
+        assertThat(result.rejected()).isZero();
+        assertThat(rows).extracting(Transaction::getAmount)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 200)
+                        .map(i -> i * 100 + 25).boxed().toList());
+    }
+
+    @Test
+    void rejectedRowsKeepTheirLineNumbersAcrossSegments() throws IOException {
+        String csv = "amount,categoryType,date\n"
+                + "1.00,FOOD,2024-01-01\n"
+                + "oops,FOOD,2024-01-02\n"
+                + "\n"
+                + "3.00,RENT,2024-01-03\n"
+                + "4.00,SNACKS,2024-01-04\n"
+                + "1e999999999,FOOD,2024-01-04\n"
+                + "5.00,TRAVEL,2024-01-05";
+        List<Transaction> rows = new ArrayList<>();
+
+        CsvImportResult result = parser.parse(write(csv), 2, rows::addAll);
+
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.errors()).extracting(CsvRowError::line).containsExactly(3L, 6L, 7L);
+        assertThat(rows).extracting(Transaction::getAmount).containsExactly(100L, 300L, 500L);
+    }
+
+    @Test
+    void handlesBomAndCrlf() throws IOException {
+        String csv = "\uFEFFamount,categoryType,date\r\n10.00,FOOD,2024-01-01\r\n20.50,BUSINESS,2024-02-01\r\n";
+        List<Transaction> rows = new ArrayList<>();
+
+        CsvImportResult result = parser.parse(write(csv), 10, rows::addAll);
+
+        assertThat(result.rejected()).isZero();
+        assertThat(rows).extracting(Transaction::getAmount).containsExactly(1000L, 2050L);
+    }
+
+    private Path write(String csv) throws IOException {
+        return Files.writeString(dir.resolve("transactions.csv"), csv, StandardCharsets.UTF_8);
+    }
+
+    private static final class InMemoryCategories implements CategoryService {
+
+        private final Map<CategoryType, Category> categories = new EnumMap<>(CategoryType.class);
+
+        @Override
+        public synchronized Category resolve(String name, CategoryType categoryType) {
+            return categories.computeIfAbsent(categoryType, type -> new Category(name, type));
+        }
+
+        @Override
+        public void evictAll() {
+        }
+
+        @Override
+        public void lockReferenced(Collection<Transaction> transactions) {
+        }
+
+        @Override
+        public int deleteUnused() {
+            return 0;
+        }
+
+        @Override
+        public void lockForCleanup() {
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.expense_tracker.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class TransactionCursorTest {
+
+    @Test
+    void roundTrips() {
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2024, 12, 31), 9_007_199_254_740_993L);
+        String token = cursor.encode();
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(TransactionCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        for (String token : new String[]{"", "not base64!", encode("2024-01-01"), encode("2024-01-01:"),
+                encode("2024-13-01:5"), encode("2024-01-01:abc"), encode(":5"), encode("5:2024-01-01")}) {
+            assertThatThrownBy(() -> TransactionCursor.decode(token))
+                    .as(token)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageStartingWith("Invalid cursor");
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}